@@ -0,0 +1,87 @@
+package com.suai.chess.benchmark;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.board.movement.MoveTransition;
+import com.suai.chess.model.player.ai.BoardEvaluator;
+import com.suai.chess.model.player.ai.PieceSquareBoardEvaluator;
+import com.suai.chess.model.player.ai.StandardBoardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({BenchmarkPositions.KIWIPETE, BenchmarkPositions.ITALIAN, BenchmarkPositions.POSITION_6})
+    public String fen;
+
+    private Board board;
+    private List<Move> moves;
+    private BoardEvaluator boardEvaluator;
+    private BoardEvaluator pieceSquareEvaluator;
+    private SearchBoard searchBoard;
+
+    @Setup
+    public void setUp() {
+        this.board = FenPlugins.createBoardFromFEN(this.fen);
+        this.moves = new ArrayList<>(this.board.getCurrentPlayer().getLegalMoves());
+        this.boardEvaluator = new StandardBoardEvaluator();
+        this.pieceSquareEvaluator = new PieceSquareBoardEvaluator();
+        this.searchBoard = new SearchBoard(this.board);
+    }
+
+    @Benchmark
+    public Board createBoardFromFen() {
+        return FenPlugins.createBoardFromFEN(this.fen);
+    }
+
+    @Benchmark
+    public void performMoves(Blackhole blackhole) {
+        for (Move move : this.moves) {
+            blackhole.consume(move.perform());
+        }
+    }
+
+    @Benchmark
+    public void makeMoves(Blackhole blackhole) {
+        for (Move move : this.moves) {
+            MoveTransition moveTransition = this.board.getCurrentPlayer().makeMove(move);
+            blackhole.consume(moveTransition);
+        }
+    }
+
+    @Benchmark
+    public int legalMovesOfFreshBoard() {
+        return this.moves.get(0).perform().getCurrentPlayer().getLegalMoves().size();
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return this.boardEvaluator.evaluate(this.board, 0);
+    }
+
+    @Benchmark
+    public int evaluatePieceSquare() {
+        return this.pieceSquareEvaluator.evaluate(this.searchBoard, 0);
+    }
+}
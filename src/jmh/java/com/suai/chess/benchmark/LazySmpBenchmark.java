@@ -0,0 +1,79 @@
+package com.suai.chess.benchmark;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.player.ai.LazySmp;
+import com.suai.chess.model.player.ai.StandardBoardEvaluator;
+import com.suai.chess.model.player.ai.TranspositionTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazySmpBenchmark {
+    private static final long UNLIMITED_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long FIXED_TIME_MILLIS = 2000;
+
+    @Param({BenchmarkPositions.KIWIPETE, BenchmarkPositions.POSITION_6})
+    public String fen;
+
+    @Param({"1", "4", "8", "16"})
+    public int threads;
+
+    @Param({"5"})
+    public int depth;
+
+    private Board board;
+    private TranspositionTable transpositionTable;
+
+    @Setup
+    public void setUp() {
+        this.board = FenPlugins.createBoardFromFEN(this.fen);
+        this.transpositionTable = new TranspositionTable(64);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTable() {
+        this.transpositionTable.clear();
+    }
+
+    @Benchmark
+    public Move timeToDepth() {
+        return new LazySmp(UNLIMITED_MILLIS, this.depth, this.threads, new StandardBoardEvaluator(),
+                this.transpositionTable).perform(this.board);
+    }
+
+    @Benchmark
+    public Move depthInFixedTime(SearchCounters counters) {
+        LazySmp lazySmp = new LazySmp(FIXED_TIME_MILLIS, this.threads, this.transpositionTable);
+        Move move = lazySmp.perform(this.board);
+        counters.completedDepth += lazySmp.getCompletedDepth();
+        counters.nodes += lazySmp.getNumVisitedNodes();
+        return move;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SearchCounters {
+        public long completedDepth;
+        public long nodes;
+    }
+}
@@ -0,0 +1,54 @@
+package com.suai.chess.benchmark;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.pieces.Piece;
+import com.suai.chess.model.pieces.Piece.PieceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceBenchmark {
+    @Param({"KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING", "PAWN"})
+    public PieceType pieceType;
+
+    private Board board;
+    private List<Piece> pieces;
+
+    @Setup
+    public void setUp() {
+        this.board = FenPlugins.createBoardFromFEN(BenchmarkPositions.KIWIPETE);
+        this.pieces = new ArrayList<>();
+        for (Piece piece : this.board.getAllPieces()) {
+            if (piece.getPieceType() == this.pieceType) {
+                this.pieces.add(piece);
+            }
+        }
+    }
+
+    @Benchmark
+    public void calculateLegalMoves(Blackhole blackhole) {
+        for (Piece piece : this.pieces) {
+            blackhole.consume(piece.calculateLegalMoves(this.board));
+        }
+    }
+}
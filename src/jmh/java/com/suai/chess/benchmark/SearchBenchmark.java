@@ -0,0 +1,45 @@
+package com.suai.chess.benchmark;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.player.ai.MinMax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    @Param({BenchmarkPositions.KIWIPETE, BenchmarkPositions.ITALIAN, BenchmarkPositions.POSITION_6})
+    public String fen;
+
+    @Param({"2", "3", "4"})
+    public int depth;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        this.board = FenPlugins.createBoardFromFEN(this.fen);
+    }
+
+    @Benchmark
+    public Move minMax() {
+        return new MinMax(this.depth).perform(this.board);
+    }
+}
@@ -0,0 +1,81 @@
+package com.suai.chess.io;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.Board.Builder;
+import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.pieces.*;
+
+public class FenPlugins {
+    public static final String STANDARD_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private FenPlugins() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static Board createBoardFromFEN(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        String castling = fields[2];
+        Alliance moveMaker = fields[1].equals("b") ? Alliance.BLACK : Alliance.WHITE;
+        Builder builder = new Builder();
+        Piece[] pieces = new Piece[BoardPlugins.NUM_TILES];
+        int coordinate = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                continue;
+            }
+            if (Character.isDigit(c)) {
+                coordinate += c - '0';
+                continue;
+            }
+            pieces[coordinate] = createPiece(c, coordinate, castling);
+            builder.setPiece(pieces[coordinate]);
+            coordinate++;
+        }
+        if (coordinate != BoardPlugins.NUM_TILES) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        if (!fields[3].equals("-")) {
+            int pawnCoordinate = BoardPlugins.getCoordinateAtPosition(fields[3]) +
+                    moveMaker.getOppositeDirection() * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+            if (pieces[pawnCoordinate] instanceof Pawn) {
+                builder.setEnPassantPawn((Pawn) pieces[pawnCoordinate]);
+            }
+        }
+        builder.setMoveMaker(moveMaker);
+        return builder.build();
+    }
+
+    private static Piece createPiece(char c, int coordinate, String castling) {
+        Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+        switch (Character.toLowerCase(c)) {
+            case 'p':
+                boolean isFirstMove = alliance.isWhite() ? BoardPlugins.SECOND_ROW_FROM_BELOW[coordinate] :
+                        BoardPlugins.SEVENTH_ROW_FROM_BELOW[coordinate];
+                return new Pawn(alliance, coordinate, isFirstMove);
+            case 'n':
+                return new Knight(alliance, coordinate);
+            case 'b':
+                return new Bishop(alliance, coordinate);
+            case 'r':
+                return new Rook(alliance, coordinate, isCastlingRook(alliance, coordinate, castling));
+            case 'q':
+                return new Queen(alliance, coordinate);
+            case 'k':
+                boolean kingSide = castling.indexOf(alliance.isWhite() ? 'K' : 'k') >= 0;
+                boolean queenSide = castling.indexOf(alliance.isWhite() ? 'Q' : 'q') >= 0;
+                return new King(alliance, coordinate, kingSide || queenSide, false, kingSide, queenSide);
+            default:
+                throw new IllegalArgumentException("Invalid FEN piece: " + c);
+        }
+    }
+
+    private static boolean isCastlingRook(Alliance alliance, int coordinate, String castling) {
+        if (alliance.isWhite()) {
+            return (coordinate == 63 && castling.indexOf('K') >= 0) || (coordinate == 56 && castling.indexOf('Q') >= 0);
+        }
+        return (coordinate == 7 && castling.indexOf('k') >= 0) || (coordinate == 0 && castling.indexOf('q') >= 0);
+    }
+}
@@ -0,0 +1,229 @@
+package com.suai.chess.model.board;
+
+import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class AttackTables {
+    private static final long[] KNIGHT_ATTACKS = new long[BoardPlugins.NUM_TILES];
+    private static final long[] KING_ATTACKS = new long[BoardPlugins.NUM_TILES];
+    private static final long[][] PAWN_ATTACKS = new long[Alliance.values().length][BoardPlugins.NUM_TILES];
+
+    private static final long[] ROOK_MASKS = new long[BoardPlugins.NUM_TILES];
+    private static final long[] ROOK_MAGICS = {
+            0xA080001820400080L, 0x0040002000401000L, 0x0180300160008008L,
+            0x0480040800801001L, 0x2A00081084204200L, 0x0480018012003400L,
+            0x0600010082000428L, 0x420002250C018042L, 0x0040800040002080L,
+            0x000040002000500CL, 0x2002004022001080L, 0x0026002200400810L,
+            0x2000808008000400L, 0x0022000200883104L, 0x2C88808001000200L,
+            0x1112000080420104L, 0x0100908000400020L, 0x0080808020004000L,
+            0x0008410010200300L, 0x0014808010000801L, 0x0080050011004800L,
+            0x00D1010002080400L, 0x3221540021080210L, 0x1000120005288244L,
+            0x020C400080248002L, 0x4020411200220082L, 0x8028100080200881L,
+            0x1210001100090020L, 0x005A005200084520L, 0x0080040080020080L,
+            0x00D6002200280401L, 0x440B210A00006884L, 0x0880401028800080L,
+            0x2000802008804000L, 0x2160001041002900L, 0x0800080080801000L,
+            0x0444820400800800L, 0x0000040080800200L, 0x0080028104001028L,
+            0x2808104102000894L, 0x0000800100450024L, 0x0000408102020020L,
+            0x2000200100110044L, 0x0110040008004040L, 0x0000080005010010L,
+            0x0002001088120044L, 0x0008100208040001L, 0x000100008045002AL,
+            0x0001002040800100L, 0x1602209200490200L, 0x1109100020008880L,
+            0x5000100100200900L, 0x0000040080080080L, 0x0003000204000900L,
+            0x4220080630035400L, 0x6140801100006080L, 0x1009234100800039L,
+            0x8000201200804102L, 0x5004100822004082L, 0x2802000440100822L,
+            0x0801008408001017L, 0x0002000108041062L, 0x8040121108129044L,
+            0x0400032411008242L
+    };
+    private static final int[] ROOK_SHIFTS = new int[BoardPlugins.NUM_TILES];
+    private static final long[][] ROOK_ATTACKS = new long[BoardPlugins.NUM_TILES][];
+
+    private static final long[][] BETWEEN = new long[BoardPlugins.NUM_TILES][BoardPlugins.NUM_TILES];
+    private static final long[][] LINE = new long[BoardPlugins.NUM_TILES][BoardPlugins.NUM_TILES];
+
+    private static final long[] BISHOP_MASKS = new long[BoardPlugins.NUM_TILES];
+    private static final long[] BISHOP_MAGICS = {
+            0x01A0C20202002A00L, 0x2320810102008401L, 0x0408820402218000L,
+            0x10024081010C0040L, 0x4104042001041200L, 0x8400902420001100L,
+            0x001108220220001AL, 0xAA80240208040300L, 0x21C8089014080060L,
+            0x0000020214140090L, 0x0280040C0C104000L, 0x18B0022082084040L,
+            0x4004040420810801L, 0x4448008804402804L, 0x4081091401044000L,
+            0x20404C8848021008L, 0xC251800510100100L, 0x0620200802808200L,
+            0xA111000206020200L, 0x8001002020408000L, 0x0024011084A00006L,
+            0x202040020110010AL, 0x004A048088042300L, 0x004840A104208C20L,
+            0x0010C82044481000L, 0x0081041208080820L, 0x0040240008004408L,
+            0x2804010000200880L, 0x0504040000410050L, 0x100A008014100090L,
+            0x8212008007480848L, 0x0021020001328424L, 0x0001901000082008L,
+            0x0A01086000031400L, 0x0030140202440800L, 0x4084820080180480L,
+            0x0081010400C20020L, 0x8010010040020042L, 0x80241804A0360082L,
+            0x044C009201108440L, 0xA104020241301000L, 0x00808C10020B0922L,
+            0x0012042208000100L, 0x8000004012021041L, 0x8082400B02100B00L,
+            0x0040408808425680L, 0x20621A0441180400L, 0x4022240848808201L,
+            0x0004840120122000L, 0x1000420210420002L, 0xC800404044108100L,
+            0x4009800A10440000L, 0x011D010510440840L, 0x80008A2048408024L,
+            0x1062024418088201L, 0x3004410809250010L, 0x2820818409114080L,
+            0x0000042402080404L, 0x0200090020841000L, 0x0082090000842408L,
+            0x1010080060024424L, 0x1100600488100100L, 0x0022082204681210L,
+            0x0140288094008024L
+    };
+    private static final int[] BISHOP_SHIFTS = new int[BoardPlugins.NUM_TILES];
+    private static final long[][] BISHOP_ATTACKS = new long[BoardPlugins.NUM_TILES][];
+
+    static {
+        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
+            long square = BitBoardPlugins.bit(i);
+            KNIGHT_ATTACKS[i] = BitBoardPlugins.knightAttacks(square);
+            KING_ATTACKS[i] = BitBoardPlugins.kingAttacks(square);
+            PAWN_ATTACKS[Alliance.WHITE.ordinal()][i] = BitBoardPlugins.pawnAttacks(square, Alliance.WHITE);
+            PAWN_ATTACKS[Alliance.BLACK.ordinal()][i] = BitBoardPlugins.pawnAttacks(square, Alliance.BLACK);
+
+            ROOK_MASKS[i] = rookRelevantOccupancy(i);
+            ROOK_SHIFTS[i] = Long.SIZE - Long.bitCount(ROOK_MASKS[i]);
+            ROOK_ATTACKS[i] = new long[1 << Long.bitCount(ROOK_MASKS[i])];
+            fillAttacks(i, ROOK_MASKS[i], ROOK_MAGICS[i], ROOK_SHIFTS[i], ROOK_ATTACKS[i], true);
+
+            BISHOP_MASKS[i] = bishopRelevantOccupancy(i);
+            BISHOP_SHIFTS[i] = Long.SIZE - Long.bitCount(BISHOP_MASKS[i]);
+            BISHOP_ATTACKS[i] = new long[1 << Long.bitCount(BISHOP_MASKS[i])];
+            fillAttacks(i, BISHOP_MASKS[i], BISHOP_MAGICS[i], BISHOP_SHIFTS[i], BISHOP_ATTACKS[i], false);
+        }
+        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
+            for (int j = 0; j < BoardPlugins.NUM_TILES; j++) {
+                long ends = BitBoardPlugins.bit(i) | BitBoardPlugins.bit(j);
+                if (i != j && BitBoardPlugins.isSet(rookAttacks(i, BitBoardPlugins.EMPTY), j)) {
+                    BETWEEN[i][j] = rookAttacks(i, BitBoardPlugins.bit(j)) & rookAttacks(j, BitBoardPlugins.bit(i));
+                    LINE[i][j] = (rookAttacks(i, BitBoardPlugins.EMPTY) & rookAttacks(j, BitBoardPlugins.EMPTY)) | ends;
+                } else if (i != j && BitBoardPlugins.isSet(bishopAttacks(i, BitBoardPlugins.EMPTY), j)) {
+                    BETWEEN[i][j] = bishopAttacks(i, BitBoardPlugins.bit(j)) & bishopAttacks(j, BitBoardPlugins.bit(i));
+                    LINE[i][j] = (bishopAttacks(i, BitBoardPlugins.EMPTY) &
+                            bishopAttacks(j, BitBoardPlugins.EMPTY)) | ends;
+                }
+            }
+        }
+    }
+
+    private AttackTables() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long knightAttacks(int coordinate) {
+        return KNIGHT_ATTACKS[coordinate];
+    }
+
+    public static long kingAttacks(int coordinate) {
+        return KING_ATTACKS[coordinate];
+    }
+
+    public static long pawnAttacks(int coordinate, Alliance alliance) {
+        return PAWN_ATTACKS[alliance.ordinal()][coordinate];
+    }
+
+    public static long rookAttacks(int coordinate, long occupied) {
+        long index = ((occupied & ROOK_MASKS[coordinate]) * ROOK_MAGICS[coordinate]) >>> ROOK_SHIFTS[coordinate];
+        return ROOK_ATTACKS[coordinate][(int) index];
+    }
+
+    public static long bishopAttacks(int coordinate, long occupied) {
+        long index = ((occupied & BISHOP_MASKS[coordinate]) * BISHOP_MAGICS[coordinate]) >>> BISHOP_SHIFTS[coordinate];
+        return BISHOP_ATTACKS[coordinate][(int) index];
+    }
+
+    public static long queenAttacks(int coordinate, long occupied) {
+        return rookAttacks(coordinate, occupied) | bishopAttacks(coordinate, occupied);
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long line(int from, int to) {
+        return LINE[from][to];
+    }
+
+    public static long calculateAttackers(long[] pieceBitBoards, long occupied, int coordinate, Alliance attacker) {
+        Alliance defender = attacker.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        long pawns = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.PAWN, attacker)];
+        long knights = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.KNIGHT, attacker)];
+        long kings = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.KING, attacker)];
+        long queens = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.QUEEN, attacker)];
+        long bishops = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.BISHOP, attacker)] | queens;
+        long rooks = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.ROOK, attacker)] | queens;
+        return (pawnAttacks(coordinate, defender) & pawns) | (knightAttacks(coordinate) & knights) |
+                (kingAttacks(coordinate) & kings) | (bishopAttacks(coordinate, occupied) & bishops) |
+                (rookAttacks(coordinate, occupied) & rooks);
+    }
+
+    public static boolean isSquareAttacked(long[] pieceBitBoards, long occupied, int coordinate, Alliance attacker) {
+        Alliance defender = attacker.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        long pawns = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.PAWN, attacker)];
+        long knights = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.KNIGHT, attacker)];
+        long kings = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.KING, attacker)];
+        if ((pawnAttacks(coordinate, defender) & pawns) != BitBoardPlugins.EMPTY ||
+                (knightAttacks(coordinate) & knights) != BitBoardPlugins.EMPTY ||
+                (kingAttacks(coordinate) & kings) != BitBoardPlugins.EMPTY) {
+            return true;
+        }
+        long queens = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.QUEEN, attacker)];
+        long bishops = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.BISHOP, attacker)] | queens;
+        long rooks = pieceBitBoards[BitBoardPlugins.pieceIndex(PieceType.ROOK, attacker)] | queens;
+        return (bishopAttacks(coordinate, occupied) & bishops) != BitBoardPlugins.EMPTY ||
+                (rookAttacks(coordinate, occupied) & rooks) != BitBoardPlugins.EMPTY;
+    }
+
+    private static void fillAttacks(int coordinate,
+                                    long mask,
+                                    long magic,
+                                    int shift,
+                                    long[] attacks,
+                                    boolean isRook) {
+        boolean[] isFilled = new boolean[attacks.length];
+        long occupied = BitBoardPlugins.EMPTY;
+        do {
+            long reference = isRook ? BitBoardPlugins.rookAttacks(BitBoardPlugins.bit(coordinate), occupied) :
+                    BitBoardPlugins.bishopAttacks(BitBoardPlugins.bit(coordinate), occupied);
+            int index = (int) ((occupied * magic) >>> shift);
+            if (isFilled[index] && attacks[index] != reference) {
+                throw new IllegalStateException("Bad magic for square " + coordinate);
+            }
+            isFilled[index] = true;
+            attacks[index] = reference;
+            occupied = (occupied - mask) & mask;
+        } while (occupied != BitBoardPlugins.EMPTY);
+    }
+
+    private static long rookRelevantOccupancy(int coordinate) {
+        int row = coordinate / BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        int column = coordinate % BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        long mask = BitBoardPlugins.EMPTY;
+        for (int r = row + 1; r < 7; r++) {
+            mask |= BitBoardPlugins.bit(r * 8 + column);
+        }
+        for (int r = row - 1; r > 0; r--) {
+            mask |= BitBoardPlugins.bit(r * 8 + column);
+        }
+        for (int c = column + 1; c < 7; c++) {
+            mask |= BitBoardPlugins.bit(row * 8 + c);
+        }
+        for (int c = column - 1; c > 0; c--) {
+            mask |= BitBoardPlugins.bit(row * 8 + c);
+        }
+        return mask;
+    }
+
+    private static long bishopRelevantOccupancy(int coordinate) {
+        int row = coordinate / BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        int column = coordinate % BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        long mask = BitBoardPlugins.EMPTY;
+        for (int r = row + 1, c = column + 1; r < 7 && c < 7; r++, c++) {
+            mask |= BitBoardPlugins.bit(r * 8 + c);
+        }
+        for (int r = row + 1, c = column - 1; r < 7 && c > 0; r++, c--) {
+            mask |= BitBoardPlugins.bit(r * 8 + c);
+        }
+        for (int r = row - 1, c = column + 1; r > 0 && c < 7; r--, c++) {
+            mask |= BitBoardPlugins.bit(r * 8 + c);
+        }
+        for (int r = row - 1, c = column - 1; r > 0 && c > 0; r--, c--) {
+            mask |= BitBoardPlugins.bit(r * 8 + c);
+        }
+        return mask;
+    }
+}
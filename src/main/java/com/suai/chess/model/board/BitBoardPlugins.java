@@ -0,0 +1,95 @@
+package com.suai.chess.model.board;
+
+import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.pieces.Piece;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class BitBoardPlugins {
+    public static final int NUM_PIECE_INDEXES = PieceType.values().length * Alliance.values().length;
+
+    public static final long EMPTY = 0L;
+    public static final long FIRST_COLUMN = 0x0101010101010101L;
+    public static final long SECOND_COLUMN = FIRST_COLUMN << 1;
+    public static final long SEVENTH_COLUMN = FIRST_COLUMN << 6;
+    public static final long EIGHTH_COLUMN = FIRST_COLUMN << 7;
+    public static final long NOT_FIRST_COLUMN = ~FIRST_COLUMN;
+    public static final long NOT_EIGHTH_COLUMN = ~EIGHTH_COLUMN;
+    public static final long NOT_FIRST_TWO_COLUMNS = ~(FIRST_COLUMN | SECOND_COLUMN);
+    public static final long NOT_LAST_TWO_COLUMNS = ~(SEVENTH_COLUMN | EIGHTH_COLUMN);
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private BitBoardPlugins() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long bit(int coordinate) {
+        return 1L << coordinate;
+    }
+
+    public static boolean isSet(long bitBoard, int coordinate) {
+        return (bitBoard & (1L << coordinate)) != 0;
+    }
+
+    public static int firstCoordinate(long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+
+    public static int pieceIndex(PieceType pieceType, Alliance alliance) {
+        return pieceType.ordinal() * 2 + alliance.ordinal();
+    }
+
+    public static PieceType pieceType(int pieceIndex) {
+        return PIECE_TYPES[pieceIndex >> 1];
+    }
+
+    public static int pieceIndex(Piece piece) {
+        return pieceIndex(piece.getPieceType(), piece.getPieceAlliance());
+    }
+
+    public static long knightAttacks(long knights) {
+        return ((knights >>> 17) & NOT_EIGHTH_COLUMN) | ((knights >>> 15) & NOT_FIRST_COLUMN) |
+                ((knights >>> 10) & NOT_LAST_TWO_COLUMNS) | ((knights >>> 6) & NOT_FIRST_TWO_COLUMNS) |
+                ((knights << 6) & NOT_LAST_TWO_COLUMNS) | ((knights << 10) & NOT_FIRST_TWO_COLUMNS) |
+                ((knights << 15) & NOT_EIGHTH_COLUMN) | ((knights << 17) & NOT_FIRST_COLUMN);
+    }
+
+    public static long kingAttacks(long kings) {
+        long sideways = ((kings << 1) & NOT_FIRST_COLUMN) | ((kings >>> 1) & NOT_EIGHTH_COLUMN);
+        long row = kings | sideways;
+        return sideways | (row << 8) | (row >>> 8);
+    }
+
+    public static long pawnAttacks(long pawns, Alliance alliance) {
+        if (alliance.isWhite()) {
+            return ((pawns >>> 7) & NOT_FIRST_COLUMN) | ((pawns >>> 9) & NOT_EIGHTH_COLUMN);
+        }
+        return ((pawns << 9) & NOT_FIRST_COLUMN) | ((pawns << 7) & NOT_EIGHTH_COLUMN);
+    }
+
+    public static long rookAttacks(long rooks, long occupied) {
+        long empty = ~occupied;
+        return slide(rooks, empty, -8, ~EMPTY) | slide(rooks, empty, 8, ~EMPTY) |
+                slide(rooks, empty, -1, NOT_EIGHTH_COLUMN) | slide(rooks, empty, 1, NOT_FIRST_COLUMN);
+    }
+
+    public static long bishopAttacks(long bishops, long occupied) {
+        long empty = ~occupied;
+        return slide(bishops, empty, -9, NOT_EIGHTH_COLUMN) | slide(bishops, empty, -7, NOT_FIRST_COLUMN) |
+                slide(bishops, empty, 7, NOT_EIGHTH_COLUMN) | slide(bishops, empty, 9, NOT_FIRST_COLUMN);
+    }
+
+    private static long slide(long sliders, long empty, int offset, long wrapMask) {
+        long attacks = EMPTY;
+        long ray = shift(sliders, offset) & wrapMask;
+        while (ray != EMPTY) {
+            attacks |= ray;
+            ray = shift(ray & empty, offset) & wrapMask;
+        }
+        return attacks;
+    }
+
+    private static long shift(long bitBoard, int offset) {
+        return offset > 0 ? bitBoard << offset : bitBoard >>> -offset;
+    }
+}
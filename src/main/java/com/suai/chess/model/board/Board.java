@@ -9,61 +9,163 @@ import com.suai.chess.model.player.WhitePlayer;
 import java.util.*;
 
 public class Board {
-    private final List<Tile> gameBoard;
-    private final Collection<Piece> whitePieces;
-    private final Collection<Piece> blackPieces;
-
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    private final Piece[] gameBoard;
+    private final long[] pieceBitBoards;
+    private final long whiteBitBoard;
+    private final long blackBitBoard;
+    private final long occupiedBitBoard;
+    private final Alliance moveMaker;
     private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+
+    private volatile Collection<Piece> whitePieces;
+    private volatile Collection<Piece> blackPieces;
+    private volatile Collection<Move> whiteStandardMoves;
+    private volatile Collection<Move> blackStandardMoves;
+    private volatile WhitePlayer whitePlayer;
+    private volatile BlackPlayer blackPlayer;
 
     private Board(Builder builder) {
         this.gameBoard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
+        this.pieceBitBoards = createPieceBitBoards(this.gameBoard);
+        this.whiteBitBoard = calculateAllianceBitBoard(this.pieceBitBoards, Alliance.WHITE);
+        this.blackBitBoard = calculateAllianceBitBoard(this.pieceBitBoards, Alliance.BLACK);
+        this.occupiedBitBoard = this.whiteBitBoard | this.blackBitBoard;
+        this.moveMaker = builder.nextMoveMaker;
         this.enPassantPawn = builder.enPassantPawn;
-
-        Collection<Move> whiteStandardMoves = calculateLegalMoves(this.whitePieces);
-        Collection<Move> blackStandardMoves = calculateLegalMoves(this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteStandardMoves, blackStandardMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardMoves, blackStandardMoves);
-        this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
+        this.castlingRights = calculateCastlingRights(this.gameBoard);
+        this.zobristKey = builder.isZobristKeySet ? builder.zobristKey :
+                Zobrist.calculateKey(getAllPieces(), this.moveMaker, this.castlingRights, this.enPassantPawn);
     }
 
     public Collection<Piece> getBlackPieces() {
-        return this.blackPieces;
+        Collection<Piece> pieces = this.blackPieces;
+        if (pieces == null) {
+            this.blackPieces = pieces = calculateActivePieces(this.gameBoard, this.blackBitBoard);
+        }
+        return pieces;
     }
 
     public Collection<Piece> getWhitePieces() {
-        return this.whitePieces;
+        Collection<Piece> pieces = this.whitePieces;
+        if (pieces == null) {
+            this.whitePieces = pieces = calculateActivePieces(this.gameBoard, this.whiteBitBoard);
+        }
+        return pieces;
+    }
+
+    public Collection<Move> getStandardMoves(Alliance alliance) {
+        Collection<Move> moves = alliance.isWhite() ? this.whiteStandardMoves : this.blackStandardMoves;
+        if (moves == null) {
+            moves = calculateLegalMoves(alliance.isWhite() ? getWhitePieces() : getBlackPieces());
+            if (alliance.isWhite()) {
+                this.whiteStandardMoves = moves;
+            } else {
+                this.blackStandardMoves = moves;
+            }
+        }
+        return moves;
+    }
+
+    public Alliance getMoveMaker() {
+        return this.moveMaker;
     }
 
     public Pawn getEnPassantPawn() {
         return this.enPassantPawn;
     }
 
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public boolean hasCastlingRight(int castle) {
+        return (this.castlingRights & castle) != 0;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
     public Player whitePlayer() {
-        return this.whitePlayer;
+        WhitePlayer player = this.whitePlayer;
+        if (player == null) {
+            this.whitePlayer = player = new WhitePlayer(this);
+        }
+        return player;
     }
 
     public Player blackPlayer() {
-        return this.blackPlayer;
+        BlackPlayer player = this.blackPlayer;
+        if (player == null) {
+            this.blackPlayer = player = new BlackPlayer(this);
+        }
+        return player;
     }
 
     public Player getCurrentPlayer() {
-        return this.currentPlayer;
+        return this.moveMaker.isWhite() ? whitePlayer() : blackPlayer();
     }
 
     public Piece getPiece(int coordinate) {
-        return this.gameBoard.get(coordinate).getPiece();
+        return this.gameBoard[coordinate];
+    }
+
+    public boolean isTileOccupied(int coordinate) {
+        return BitBoardPlugins.isSet(this.occupiedBitBoard, coordinate);
+    }
+
+    public long getPieceBitBoard(Piece.PieceType pieceType, Alliance alliance) {
+        return this.pieceBitBoards[BitBoardPlugins.pieceIndex(pieceType, alliance)];
+    }
+
+    public long getAllianceBitBoard(Alliance alliance) {
+        return alliance.isWhite() ? this.whiteBitBoard : this.blackBitBoard;
+    }
+
+    public long getOccupiedBitBoard() {
+        return this.occupiedBitBoard;
+    }
+
+    public long calculateAttackBitBoard(Alliance alliance) {
+        long attacks = BitBoardPlugins.pawnAttacks(getPieceBitBoard(Piece.PieceType.PAWN, alliance), alliance) |
+                BitBoardPlugins.knightAttacks(getPieceBitBoard(Piece.PieceType.KNIGHT, alliance)) |
+                BitBoardPlugins.kingAttacks(getPieceBitBoard(Piece.PieceType.KING, alliance));
+        long queens = getPieceBitBoard(Piece.PieceType.QUEEN, alliance);
+        for (long rooks = getPieceBitBoard(Piece.PieceType.ROOK, alliance) | queens;
+             rooks != BitBoardPlugins.EMPTY; rooks &= rooks - 1) {
+            attacks |= AttackTables.rookAttacks(BitBoardPlugins.firstCoordinate(rooks), this.occupiedBitBoard);
+        }
+        for (long bishops = getPieceBitBoard(Piece.PieceType.BISHOP, alliance) | queens;
+             bishops != BitBoardPlugins.EMPTY; bishops &= bishops - 1) {
+            attacks |= AttackTables.bishopAttacks(BitBoardPlugins.firstCoordinate(bishops), this.occupiedBitBoard);
+        }
+        return attacks;
+    }
+
+    public boolean isSquareAttacked(int coordinate, Alliance attacker) {
+        return isSquareAttacked(coordinate, attacker, this.occupiedBitBoard);
+    }
+
+    public boolean isSquareAttacked(int coordinate, Alliance attacker, long occupied) {
+        return AttackTables.isSquareAttacked(this.pieceBitBoards, occupied, coordinate, attacker);
+    }
+
+    public long calculateAttackers(int coordinate, Alliance attacker) {
+        return AttackTables.calculateAttackers(this.pieceBitBoards, this.occupiedBitBoard, coordinate, attacker);
+    }
+
+    public boolean isKingAttacked(Alliance kingAlliance) {
+        long king = getPieceBitBoard(Piece.PieceType.KING, kingAlliance);
+        return king != BitBoardPlugins.EMPTY && isSquareAttacked(BitBoardPlugins.firstCoordinate(king),
+                kingAlliance.isWhite() ? Alliance.BLACK : Alliance.WHITE);
     }
 
     public Collection<Piece> getAllPieces() {
         Collection<Piece> allPieces = new ArrayList<>();
-        allPieces.addAll(whitePieces);
-        allPieces.addAll(blackPieces);
+        allPieces.addAll(getWhitePieces());
+        allPieces.addAll(getBlackPieces());
         return allPieces;
     }
 
@@ -75,37 +177,104 @@ public class Board {
         return Collections.unmodifiableList(legalMoves);
     }
 
-    private static Collection<Piece> calculateActivePieces(List<Tile> gameBoard, Alliance alliance) {
-        List<Piece> activePieces = new ArrayList<>();
-        for (Tile tile : gameBoard) {
-            if (tile.isTileOccupied()) {
-                Piece piece = tile.getPiece();
-                if (piece.getPieceAlliance() == alliance) {
-                    activePieces.add(piece);
-                }
-            }
+    private static Collection<Piece> calculateActivePieces(Piece[] gameBoard, long allianceBitBoard) {
+        List<Piece> activePieces = new ArrayList<>(Long.bitCount(allianceBitBoard));
+        for (long pieces = allianceBitBoard; pieces != BitBoardPlugins.EMPTY; pieces &= pieces - 1) {
+            activePieces.add(gameBoard[BitBoardPlugins.firstCoordinate(pieces)]);
         }
         return Collections.unmodifiableList(activePieces);
     }
 
+    private static long[] createPieceBitBoards(Piece[] gameBoard) {
+        long[] pieceBitBoards = new long[BitBoardPlugins.NUM_PIECE_INDEXES];
+        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
+            if (gameBoard[i] != null) {
+                pieceBitBoards[BitBoardPlugins.pieceIndex(gameBoard[i])] |= BitBoardPlugins.bit(i);
+            }
+        }
+        return pieceBitBoards;
+    }
+
+    private static long calculateAllianceBitBoard(long[] pieceBitBoards, Alliance alliance) {
+        long allianceBitBoard = BitBoardPlugins.EMPTY;
+        for (Piece.PieceType pieceType : Piece.PieceType.values()) {
+            allianceBitBoard |= pieceBitBoards[BitBoardPlugins.pieceIndex(pieceType, alliance)];
+        }
+        return allianceBitBoard;
+    }
+
+    private static int calculateCastlingRights(Piece[] gameBoard) {
+        int rights = 0;
+        if (isCastlingReady(gameBoard, Alliance.WHITE, 60, 63, true)) {
+            rights |= BoardPlugins.WHITE_KING_SIDE_CASTLE;
+        }
+        if (isCastlingReady(gameBoard, Alliance.WHITE, 60, 56, false)) {
+            rights |= BoardPlugins.WHITE_QUEEN_SIDE_CASTLE;
+        }
+        if (isCastlingReady(gameBoard, Alliance.BLACK, 4, 7, true)) {
+            rights |= BoardPlugins.BLACK_KING_SIDE_CASTLE;
+        }
+        if (isCastlingReady(gameBoard, Alliance.BLACK, 4, 0, false)) {
+            rights |= BoardPlugins.BLACK_QUEEN_SIDE_CASTLE;
+        }
+        return rights;
+    }
+
+    private static boolean isCastlingReady(Piece[] gameBoard,
+                                           Alliance alliance,
+                                           int kingCoordinate,
+                                           int rookCoordinate,
+                                           boolean isKingSide) {
+        Piece king = gameBoard[kingCoordinate];
+        Piece rook = gameBoard[rookCoordinate];
+        if (king == null || rook == null || !king.isParticularPiece(Piece.PieceType.KING) ||
+                !rook.isParticularPiece(Piece.PieceType.ROOK) || king.getPieceAlliance() != alliance ||
+                rook.getPieceAlliance() != alliance || !king.isFirstMove() || !rook.isFirstMove()) {
+            return false;
+        }
+        return isKingSide ? ((King) king).isKingSideCastleCapable() : ((King) king).isQueenSideCastleCapable();
+    }
+
     public Tile getTile(int tileCoordinate) {
-        return gameBoard.get(tileCoordinate);
+        return Tile.createTile(tileCoordinate, this.gameBoard[tileCoordinate]);
     }
 
-    private static List<Tile> createGameBoard(Builder builder) {
-        List<Tile> tiles = new ArrayList<>();
-        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
-            Tile currTile = Tile.createTile(i, builder.boardConfiguration.get(i));
-            tiles.add(i, currTile);
+    private static Piece[] createGameBoard(Builder builder) {
+        Piece[] pieces = new Piece[BoardPlugins.NUM_TILES];
+        for (Piece piece : builder.boardConfiguration.values()) {
+            pieces[piece.getPiecePosition()] = piece;
         }
-        return Collections.unmodifiableList(tiles);
+        return pieces;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.zobristKey);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Board)) {
+            return false;
+        }
+        Board otherBoard = (Board) other;
+        if (this.zobristKey != otherBoard.zobristKey ||
+                this.castlingRights != otherBoard.castlingRights ||
+                this.moveMaker != otherBoard.moveMaker ||
+                !Objects.equals(this.enPassantPawn, otherBoard.enPassantPawn)) {
+            return false;
+        }
+        return Arrays.equals(this.pieceBitBoards, otherBoard.pieceBitBoards);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
-            String tileText = this.gameBoard.get(i).toString();
+            String tileText = getTile(i).toString();
             sb.append(String.format("%3s", tileText));
             if (((i + 1) % BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW) == 0) {
                 sb.append("\n");
@@ -156,8 +325,8 @@ public class Board {
 
     public Iterable<Move> getAllLegalMoves() {
         List<Move> allLegalMoves = new ArrayList<>();
-        allLegalMoves.addAll(this.whitePlayer.getLegalMoves());
-        allLegalMoves.addAll(this.blackPlayer.getLegalMoves());
+        allLegalMoves.addAll(whitePlayer().getLegalMoves());
+        allLegalMoves.addAll(blackPlayer().getLegalMoves());
         return Collections.unmodifiableList(allLegalMoves);
     }
 
@@ -165,13 +334,15 @@ public class Board {
         Map<Integer, Piece> boardConfiguration;
         Alliance nextMoveMaker;
         Pawn enPassantPawn;
+        long zobristKey;
+        boolean isZobristKeySet;
 
         public Builder() {
             this.boardConfiguration = new HashMap<>();
         }
 
         public Builder setPiece(Piece piece) {
-            this.boardConfiguration.put(piece.getPiecePosition(), piece);
+            this.boardConfiguration.put(piece.getPiecePosition(), PiecePool.intern(piece));
             return this;
         }
 
@@ -186,5 +357,10 @@ public class Board {
         public void setEnPassantPawn(Pawn enPassantPawn) {
             this.enPassantPawn = enPassantPawn;
         }
+
+        public void setZobristKey(long zobristKey) {
+            this.zobristKey = zobristKey;
+            this.isZobristKeySet = true;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.suai.chess.model.board;
 
+import com.suai.chess.model.pieces.Alliance;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +30,12 @@ public class BoardPlugins {
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_COLUMN_OR_ROW = 8;
 
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+    public static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
+
     private BoardPlugins() {
         throw new RuntimeException("It is impossible to create such a board!");
     }
@@ -63,6 +71,22 @@ public class BoardPlugins {
         return Collections.unmodifiableMap(positionToCoordinate);
     }
 
+    private static int[] initCastlingRightsMask() {
+        int[] mask = new int[NUM_TILES];
+        int allRights = WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE |
+                BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE;
+        for (int i = 0; i < NUM_TILES; i++) {
+            mask[i] = allRights;
+        }
+        mask[60] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+        mask[63] &= ~WHITE_KING_SIDE_CASTLE;
+        mask[56] &= ~WHITE_QUEEN_SIDE_CASTLE;
+        mask[4] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+        mask[7] &= ~BLACK_KING_SIDE_CASTLE;
+        mask[0] &= ~BLACK_QUEEN_SIDE_CASTLE;
+        return mask;
+    }
+
     private static boolean[] initColumn(int columnNumber) {
         boolean[] column = new boolean[NUM_TILES];
         for (int i = 0; i < NUM_TILES_PER_COLUMN_OR_ROW; i++)
@@ -90,6 +114,14 @@ public class BoardPlugins {
         return ALGEBRAIC_NOTATION[destinationCoordinate];
     }
 
+    public static int getKingSideCastle(Alliance alliance) {
+        return alliance.isWhite() ? WHITE_KING_SIDE_CASTLE : BLACK_KING_SIDE_CASTLE;
+    }
+
+    public static int getQueenSideCastle(Alliance alliance) {
+        return alliance.isWhite() ? WHITE_QUEEN_SIDE_CASTLE : BLACK_QUEEN_SIDE_CASTLE;
+    }
+
     public static boolean isEndGame(Board board) {
         return board.getCurrentPlayer().isInCheckMate() ||
                 board.getCurrentPlayer().getOpponent().isInCheckMate();
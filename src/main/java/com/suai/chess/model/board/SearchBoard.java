@@ -0,0 +1,470 @@
+package com.suai.chess.model.board;
+
+import com.suai.chess.model.board.Board.Builder;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
+import com.suai.chess.model.pieces.*;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+import static com.suai.chess.model.board.movement.MovePlugins.*;
+
+public class SearchBoard {
+    public static final int MAX_PLY = 256;
+    public static final int NO_PIECE = MovePlugins.NO_PIECE;
+    public static final int NO_COORDINATE = -1;
+
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int WHITE_KING_START = 60;
+    private static final int BLACK_KING_START = 4;
+
+    private final int[] pieces = new int[BoardPlugins.NUM_TILES];
+    private final long[] pieceBitBoards = new long[BitBoardPlugins.NUM_PIECE_INDEXES];
+    private final long[] allianceBitBoards = new long[ALLIANCES.length];
+    private long occupiedBitBoard;
+    private Alliance moveMaker;
+    private int castlingRights;
+    private int enPassantCoordinate;
+    private int castledAlliances;
+    private long zobristKey;
+    private long pawnKey;
+    private int middleGameScore;
+    private int endGameScore;
+    private int gamePhase;
+
+    private int ply;
+    private final int[] undoMoves = new int[MAX_PLY];
+    private final int[] undoCapturedPieces = new int[MAX_PLY];
+    private final int[] undoCastlingRights = new int[MAX_PLY];
+    private final int[] undoEnPassantCoordinates = new int[MAX_PLY];
+    private final int[] undoCastledAlliances = new int[MAX_PLY];
+    private final long[] undoZobristKeys = new long[MAX_PLY];
+
+    public SearchBoard(Board board) {
+        Arrays.fill(this.pieces, NO_PIECE);
+        for (Piece piece : board.getAllPieces()) {
+            addPiece(BitBoardPlugins.pieceIndex(piece), piece.getPiecePosition());
+            if (piece.isParticularPiece(PieceType.KING) && ((King) piece).isCastle()) {
+                this.castledAlliances |= 1 << piece.getPieceAlliance().ordinal();
+            }
+        }
+        this.moveMaker = board.getMoveMaker();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantCoordinate = board.getEnPassantPawn() != null ?
+                board.getEnPassantPawn().getPiecePosition() : NO_COORDINATE;
+        this.zobristKey = board.getZobristKey();
+    }
+
+    public Board toBoard() {
+        Builder builder = new Builder();
+        for (long all = this.occupiedBitBoard; all != BitBoardPlugins.EMPTY; all &= all - 1) {
+            int coordinate = BitBoardPlugins.firstCoordinate(all);
+            Piece piece = createPiece(this.pieces[coordinate], coordinate);
+            builder.setPiece(piece);
+            if (coordinate == this.enPassantCoordinate) {
+                builder.setEnPassantPawn((Pawn) piece);
+            }
+        }
+        builder.setMoveMaker(this.moveMaker);
+        builder.setZobristKey(this.zobristKey);
+        return builder.build();
+    }
+
+    public int getPiece(int coordinate) {
+        return this.pieces[coordinate];
+    }
+
+    public long getPieceBitBoard(PieceType pieceType, Alliance alliance) {
+        return this.pieceBitBoards[BitBoardPlugins.pieceIndex(pieceType, alliance)];
+    }
+
+    public long getAllianceBitBoard(Alliance alliance) {
+        return this.allianceBitBoards[alliance.ordinal()];
+    }
+
+    public long getOccupiedBitBoard() {
+        return this.occupiedBitBoard;
+    }
+
+    public Alliance getMoveMaker() {
+        return this.moveMaker;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantCoordinate() {
+        return this.enPassantCoordinate;
+    }
+
+    public boolean isCastled(Alliance alliance) {
+        return (this.castledAlliances & (1 << alliance.ordinal())) != 0;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    public int getMiddleGameScore() {
+        return this.middleGameScore;
+    }
+
+    public int getEndGameScore() {
+        return this.endGameScore;
+    }
+
+    public int getGamePhase() {
+        return this.gamePhase;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+
+    public int getKingCoordinate(Alliance alliance) {
+        return BitBoardPlugins.firstCoordinate(getPieceBitBoard(PieceType.KING, alliance));
+    }
+
+    public boolean isInCheck() {
+        return isSquareAttacked(getKingCoordinate(this.moveMaker), opponent(this.moveMaker));
+    }
+
+    public boolean isSquareAttacked(int coordinate, Alliance attacker) {
+        return AttackTables.isSquareAttacked(this.pieceBitBoards, this.occupiedBitBoard, coordinate, attacker);
+    }
+
+    public long calculateAttackers(int coordinate, Alliance attacker, long occupied) {
+        return AttackTables.calculateAttackers(this.pieceBitBoards, occupied, coordinate, attacker);
+    }
+
+    public void generateMoves(MoveList moves) {
+        moves.clear();
+        generatePawnMoves(moves);
+        generatePieceMoves(moves, ~this.allianceBitBoards[this.moveMaker.ordinal()]);
+        generateCastles(moves, getKingCoordinate(this.moveMaker));
+    }
+
+    public void generateCaptures(MoveList moves) {
+        moves.clear();
+        generatePawnCaptures(moves);
+        generatePieceMoves(moves, this.allianceBitBoards[this.moveMaker.ordinal() ^ 1]);
+    }
+
+    public boolean makeMove(int move) {
+        int from = getCurrentCoordinate(move);
+        int to = getDestinationCoordinate(move);
+        int flag = getFlag(move);
+        int side = this.moveMaker.ordinal();
+        int movedPiece = this.pieces[from];
+        int capturedCoordinate = flag == EN_PASSANT ? this.enPassantCoordinate : to;
+        int capturedPiece = this.pieces[capturedCoordinate];
+
+        this.undoMoves[this.ply] = move;
+        this.undoCapturedPieces[this.ply] = capturedPiece;
+        this.undoCastlingRights[this.ply] = this.castlingRights;
+        this.undoEnPassantCoordinates[this.ply] = this.enPassantCoordinate;
+        this.undoCastledAlliances[this.ply] = this.castledAlliances;
+        this.undoZobristKeys[this.ply] = this.zobristKey;
+        this.ply++;
+
+        long key = this.zobristKey ^ Zobrist.sideToMoveKey();
+        if (this.enPassantCoordinate != NO_COORDINATE) {
+            key ^= Zobrist.enPassantKey(this.enPassantCoordinate);
+            this.enPassantCoordinate = NO_COORDINATE;
+        }
+        if (capturedPiece != NO_PIECE) {
+            removePiece(capturedCoordinate);
+            key ^= Zobrist.pieceKey(capturedPiece, capturedCoordinate);
+        }
+        removePiece(from);
+        key ^= Zobrist.pieceKey(movedPiece, from);
+        int placedPiece = isPromotion(move) ? pieceIndex(getPromotionType(move), side) : movedPiece;
+        addPiece(placedPiece, to);
+        key ^= Zobrist.pieceKey(placedPiece, to);
+
+        if (flag == KING_SIDE_CASTLE) {
+            key ^= moveRook(to + 1, to - 1);
+            this.castledAlliances |= 1 << side;
+        } else if (flag == QUEEN_SIDE_CASTLE) {
+            key ^= moveRook(to - 2, to + 1);
+            this.castledAlliances |= 1 << side;
+        } else if (flag == PAWN_JUMP) {
+            this.enPassantCoordinate = to;
+            key ^= Zobrist.enPassantKey(to);
+        }
+
+        int rights = this.castlingRights & BoardPlugins.CASTLING_RIGHTS_MASK[from] &
+                BoardPlugins.CASTLING_RIGHTS_MASK[to];
+        key ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(rights);
+        this.castlingRights = rights;
+        this.moveMaker = ALLIANCES[side ^ 1];
+        this.zobristKey = key;
+
+        if (isSquareAttacked(getKingCoordinate(ALLIANCES[side]), this.moveMaker)) {
+            unmakeMove();
+            return false;
+        }
+        return true;
+    }
+
+    public void unmakeMove() {
+        this.ply--;
+        int move = this.undoMoves[this.ply];
+        int from = getCurrentCoordinate(move);
+        int to = getDestinationCoordinate(move);
+        int flag = getFlag(move);
+        this.moveMaker = opponent(this.moveMaker);
+
+        int placedPiece = this.pieces[to];
+        removePiece(to);
+        addPiece(isPromotion(move) ? pieceIndex(PieceType.PAWN, this.moveMaker.ordinal()) : placedPiece, from);
+        if (flag == KING_SIDE_CASTLE) {
+            moveRook(to - 1, to + 1);
+        } else if (flag == QUEEN_SIDE_CASTLE) {
+            moveRook(to + 1, to - 2);
+        }
+        int capturedPiece = this.undoCapturedPieces[this.ply];
+        if (capturedPiece != NO_PIECE) {
+            addPiece(capturedPiece, flag == EN_PASSANT ? this.undoEnPassantCoordinates[this.ply] : to);
+        }
+
+        this.castlingRights = this.undoCastlingRights[this.ply];
+        this.enPassantCoordinate = this.undoEnPassantCoordinates[this.ply];
+        this.castledAlliances = this.undoCastledAlliances[this.ply];
+        this.zobristKey = this.undoZobristKeys[this.ply];
+    }
+
+    public void makeNullMove() {
+        this.undoMoves[this.ply] = NO_MOVE;
+        this.undoCapturedPieces[this.ply] = NO_PIECE;
+        this.undoCastlingRights[this.ply] = this.castlingRights;
+        this.undoEnPassantCoordinates[this.ply] = this.enPassantCoordinate;
+        this.undoCastledAlliances[this.ply] = this.castledAlliances;
+        this.undoZobristKeys[this.ply] = this.zobristKey;
+        this.ply++;
+
+        long key = this.zobristKey ^ Zobrist.sideToMoveKey();
+        if (this.enPassantCoordinate != NO_COORDINATE) {
+            key ^= Zobrist.enPassantKey(this.enPassantCoordinate);
+            this.enPassantCoordinate = NO_COORDINATE;
+        }
+        this.moveMaker = opponent(this.moveMaker);
+        this.zobristKey = key;
+    }
+
+    public void unmakeNullMove() {
+        this.ply--;
+        this.moveMaker = opponent(this.moveMaker);
+        this.enPassantCoordinate = this.undoEnPassantCoordinates[this.ply];
+        this.zobristKey = this.undoZobristKeys[this.ply];
+    }
+
+    public boolean hasNonPawnMaterial(Alliance alliance) {
+        return (getPieceBitBoard(PieceType.KNIGHT, alliance) | getPieceBitBoard(PieceType.BISHOP, alliance) |
+                getPieceBitBoard(PieceType.ROOK, alliance) | getPieceBitBoard(PieceType.QUEEN, alliance)) !=
+                BitBoardPlugins.EMPTY;
+    }
+
+    private void generatePieceMoves(MoveList moves, long targets) {
+        Alliance alliance = this.moveMaker;
+        for (long knights = getPieceBitBoard(PieceType.KNIGHT, alliance);
+             knights != BitBoardPlugins.EMPTY; knights &= knights - 1) {
+            int from = BitBoardPlugins.firstCoordinate(knights);
+            addMoves(moves, from, AttackTables.knightAttacks(from) & targets);
+        }
+        for (long bishops = getPieceBitBoard(PieceType.BISHOP, alliance);
+             bishops != BitBoardPlugins.EMPTY; bishops &= bishops - 1) {
+            int from = BitBoardPlugins.firstCoordinate(bishops);
+            addMoves(moves, from, AttackTables.bishopAttacks(from, this.occupiedBitBoard) & targets);
+        }
+        for (long rooks = getPieceBitBoard(PieceType.ROOK, alliance);
+             rooks != BitBoardPlugins.EMPTY; rooks &= rooks - 1) {
+            int from = BitBoardPlugins.firstCoordinate(rooks);
+            addMoves(moves, from, AttackTables.rookAttacks(from, this.occupiedBitBoard) & targets);
+        }
+        for (long queens = getPieceBitBoard(PieceType.QUEEN, alliance);
+             queens != BitBoardPlugins.EMPTY; queens &= queens - 1) {
+            int from = BitBoardPlugins.firstCoordinate(queens);
+            addMoves(moves, from, AttackTables.queenAttacks(from, this.occupiedBitBoard) & targets);
+        }
+        int king = getKingCoordinate(alliance);
+        addMoves(moves, king, AttackTables.kingAttacks(king) & targets);
+    }
+
+    private void generatePawnMoves(MoveList moves) {
+        Alliance alliance = this.moveMaker;
+        int forward = alliance.getDirection() * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        boolean[] startRow = alliance.isWhite() ? BoardPlugins.SECOND_ROW_FROM_BELOW :
+                BoardPlugins.SEVENTH_ROW_FROM_BELOW;
+        int pawn = BitBoardPlugins.pieceIndex(PieceType.PAWN, alliance);
+        long enemies = this.allianceBitBoards[alliance.ordinal() ^ 1];
+        for (long pawns = this.pieceBitBoards[pawn]; pawns != BitBoardPlugins.EMPTY; pawns &= pawns - 1) {
+            int from = BitBoardPlugins.firstCoordinate(pawns);
+            int to = from + forward;
+            if (this.pieces[to] == NO_PIECE) {
+                addPawnMove(moves, pawn, from, to);
+                if (startRow[from] && this.pieces[to + forward] == NO_PIECE) {
+                    moves.add(createMove(from, to + forward, PAWN_JUMP, pawn, NO_PIECE));
+                }
+            }
+            long attacks = AttackTables.pawnAttacks(from, alliance);
+            for (long captures = attacks & enemies; captures != BitBoardPlugins.EMPTY; captures &= captures - 1) {
+                addPawnMove(moves, pawn, from, BitBoardPlugins.firstCoordinate(captures));
+            }
+            addEnPassant(moves, pawn, from, attacks, forward);
+        }
+    }
+
+    private void generatePawnCaptures(MoveList moves) {
+        Alliance alliance = this.moveMaker;
+        int forward = alliance.getDirection() * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        int pawn = BitBoardPlugins.pieceIndex(PieceType.PAWN, alliance);
+        long enemies = this.allianceBitBoards[alliance.ordinal() ^ 1];
+        for (long pawns = this.pieceBitBoards[pawn]; pawns != BitBoardPlugins.EMPTY; pawns &= pawns - 1) {
+            int from = BitBoardPlugins.firstCoordinate(pawns);
+            int to = from + forward;
+            // Only queen promotions: under-promotions almost never change a capture sequence's outcome.
+            if (alliance.isPawnPromotionSquare(to) && this.pieces[to] == NO_PIECE) {
+                moves.add(createPromotion(from, to, PieceType.QUEEN, pawn, NO_PIECE));
+            }
+            long attacks = AttackTables.pawnAttacks(from, alliance);
+            for (long captures = attacks & enemies; captures != BitBoardPlugins.EMPTY; captures &= captures - 1) {
+                int capture = BitBoardPlugins.firstCoordinate(captures);
+                moves.add(alliance.isPawnPromotionSquare(capture) ?
+                        createPromotion(from, capture, PieceType.QUEEN, pawn, this.pieces[capture]) :
+                        createMove(from, capture, QUIET, pawn, this.pieces[capture]));
+            }
+            addEnPassant(moves, pawn, from, attacks, forward);
+        }
+    }
+
+    private void addPawnMove(MoveList moves, int pawn, int from, int to) {
+        int capturedPiece = this.pieces[to];
+        if (this.moveMaker.isPawnPromotionSquare(to)) {
+            moves.add(createPromotion(from, to, PieceType.QUEEN, pawn, capturedPiece));
+            moves.add(createPromotion(from, to, PieceType.ROOK, pawn, capturedPiece));
+            moves.add(createPromotion(from, to, PieceType.BISHOP, pawn, capturedPiece));
+            moves.add(createPromotion(from, to, PieceType.KNIGHT, pawn, capturedPiece));
+        } else {
+            moves.add(createMove(from, to, QUIET, pawn, capturedPiece));
+        }
+    }
+
+    private void addEnPassant(MoveList moves, int pawn, int from, long attacks, int forward) {
+        if (this.enPassantCoordinate != NO_COORDINATE &&
+                BitBoardPlugins.isSet(attacks, this.enPassantCoordinate + forward)) {
+            moves.add(createMove(from, this.enPassantCoordinate + forward, EN_PASSANT, pawn,
+                    this.pieces[this.enPassantCoordinate]));
+        }
+    }
+
+    private void generateCastles(MoveList moves, int king) {
+        Alliance alliance = this.moveMaker;
+        Alliance attacker = opponent(alliance);
+        boolean isKingSideAllowed = (this.castlingRights & BoardPlugins.getKingSideCastle(alliance)) != 0 &&
+                this.pieces[king + 1] == NO_PIECE && this.pieces[king + 2] == NO_PIECE;
+        boolean isQueenSideAllowed = (this.castlingRights & BoardPlugins.getQueenSideCastle(alliance)) != 0 &&
+                this.pieces[king - 1] == NO_PIECE && this.pieces[king - 2] == NO_PIECE &&
+                this.pieces[king - 3] == NO_PIECE;
+        if ((!isKingSideAllowed && !isQueenSideAllowed) || isSquareAttacked(king, attacker)) {
+            return;
+        }
+        int kingPiece = this.pieces[king];
+        if (isKingSideAllowed && !isSquareAttacked(king + 1, attacker) && !isSquareAttacked(king + 2, attacker)) {
+            moves.add(createMove(king, king + 2, KING_SIDE_CASTLE, kingPiece, NO_PIECE));
+        }
+        if (isQueenSideAllowed && !isSquareAttacked(king - 1, attacker) && !isSquareAttacked(king - 2, attacker)) {
+            moves.add(createMove(king, king - 2, QUEEN_SIDE_CASTLE, kingPiece, NO_PIECE));
+        }
+    }
+
+    private void addMoves(MoveList moves, int from, long destinations) {
+        int movedPiece = this.pieces[from];
+        for (; destinations != BitBoardPlugins.EMPTY; destinations &= destinations - 1) {
+            int to = BitBoardPlugins.firstCoordinate(destinations);
+            moves.add(createMove(from, to, QUIET, movedPiece, this.pieces[to]));
+        }
+    }
+
+    private long moveRook(int from, int to) {
+        int rook = this.pieces[from];
+        removePiece(from);
+        addPiece(rook, to);
+        return Zobrist.pieceKey(rook, from) ^ Zobrist.pieceKey(rook, to);
+    }
+
+    private void addPiece(int piece, int coordinate) {
+        long bit = BitBoardPlugins.bit(coordinate);
+        this.pieces[coordinate] = piece;
+        this.pieceBitBoards[piece] |= bit;
+        this.allianceBitBoards[piece & 1] |= bit;
+        this.occupiedBitBoard |= bit;
+        this.middleGameScore += PieceSquareTables.middleGameScore(piece, coordinate);
+        this.endGameScore += PieceSquareTables.endGameScore(piece, coordinate);
+        this.gamePhase += PieceSquareTables.phaseWeight(piece);
+        if (isPawn(piece)) {
+            this.pawnKey ^= Zobrist.pieceKey(piece, coordinate);
+        }
+    }
+
+    private void removePiece(int coordinate) {
+        long bit = BitBoardPlugins.bit(coordinate);
+        int piece = this.pieces[coordinate];
+        this.pieces[coordinate] = NO_PIECE;
+        this.pieceBitBoards[piece] &= ~bit;
+        this.allianceBitBoards[piece & 1] &= ~bit;
+        this.occupiedBitBoard &= ~bit;
+        this.middleGameScore -= PieceSquareTables.middleGameScore(piece, coordinate);
+        this.endGameScore -= PieceSquareTables.endGameScore(piece, coordinate);
+        this.gamePhase -= PieceSquareTables.phaseWeight(piece);
+        if (isPawn(piece)) {
+            this.pawnKey ^= Zobrist.pieceKey(piece, coordinate);
+        }
+    }
+
+    private Piece createPiece(int piece, int coordinate) {
+        Alliance alliance = ALLIANCES[piece & 1];
+        switch (PIECE_TYPES[piece >> 1]) {
+            case PAWN:
+                boolean[] startRow = alliance.isWhite() ? BoardPlugins.SECOND_ROW_FROM_BELOW :
+                        BoardPlugins.SEVENTH_ROW_FROM_BELOW;
+                return PiecePool.getPiece(PieceType.PAWN, alliance, coordinate, startRow[coordinate]);
+            case KNIGHT:
+                return PiecePool.getPiece(PieceType.KNIGHT, alliance, coordinate, true);
+            case BISHOP:
+                return PiecePool.getPiece(PieceType.BISHOP, alliance, coordinate, true);
+            case ROOK:
+                int cornerRight = ~BoardPlugins.CASTLING_RIGHTS_MASK[coordinate] &
+                        (BoardPlugins.getKingSideCastle(alliance) | BoardPlugins.getQueenSideCastle(alliance));
+                return PiecePool.getPiece(PieceType.ROOK, alliance, coordinate,
+                        (this.castlingRights & cornerRight) != 0);
+            case QUEEN:
+                return PiecePool.getPiece(PieceType.QUEEN, alliance, coordinate, true);
+            default:
+                boolean kingSide = (this.castlingRights & BoardPlugins.getKingSideCastle(alliance)) != 0;
+                boolean queenSide = (this.castlingRights & BoardPlugins.getQueenSideCastle(alliance)) != 0;
+                int start = alliance.isWhite() ? WHITE_KING_START : BLACK_KING_START;
+                return PiecePool.getKing(alliance, coordinate, coordinate == start && (kingSide || queenSide),
+                        isCastled(alliance), kingSide, queenSide);
+        }
+    }
+
+    private static boolean isPawn(int piece) {
+        return PIECE_TYPES[piece >> 1] == PieceType.PAWN;
+    }
+
+    private static int pieceIndex(PieceType pieceType, int side) {
+        return BitBoardPlugins.pieceIndex(pieceType, ALLIANCES[side]);
+    }
+
+    private static Alliance opponent(Alliance alliance) {
+        return ALLIANCES[alliance.ordinal() ^ 1];
+    }
+}
@@ -0,0 +1,92 @@
+package com.suai.chess.model.board;
+
+import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.pieces.Pawn;
+import com.suai.chess.model.pieces.Piece;
+
+import java.util.Collection;
+import java.util.Random;
+
+public class Zobrist {
+    private static final long SEED = 0x5A0B215FL;
+    private static final long[][] PIECE_KEYS = new long[BitBoardPlugins.NUM_PIECE_INDEXES][BoardPlugins.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        Random random = new Random(SEED);
+        for (long[] pieceKeys : PIECE_KEYS) {
+            for (int i = 0; i < pieceKeys.length; i++) {
+                pieceKeys[i] = random.nextLong();
+            }
+        }
+        for (int i = 1; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long pieceKey(Piece piece, int coordinate) {
+        return PIECE_KEYS[BitBoardPlugins.pieceIndex(piece)][coordinate];
+    }
+
+    public static long pieceKey(int pieceIndex, int coordinate) {
+        return PIECE_KEYS[pieceIndex][coordinate];
+    }
+
+    public static long castlingKey(int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(int pawnCoordinate) {
+        return EN_PASSANT_KEYS[pawnCoordinate % BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW];
+    }
+
+    public static long enPassantKey(Pawn enPassantPawn) {
+        return enPassantPawn != null ? enPassantKey(enPassantPawn.getPiecePosition()) : 0L;
+    }
+
+    public static long sideToMoveKey() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    public static long calculatePawnKey(long whitePawns, long blackPawns) {
+        long key = 0L;
+        int whitePawn = BitBoardPlugins.pieceIndex(Piece.PieceType.PAWN, Alliance.WHITE);
+        int blackPawn = BitBoardPlugins.pieceIndex(Piece.PieceType.PAWN, Alliance.BLACK);
+        for (long pawns = whitePawns; pawns != BitBoardPlugins.EMPTY; pawns &= pawns - 1) {
+            key ^= pieceKey(whitePawn, BitBoardPlugins.firstCoordinate(pawns));
+        }
+        for (long pawns = blackPawns; pawns != BitBoardPlugins.EMPTY; pawns &= pawns - 1) {
+            key ^= pieceKey(blackPawn, BitBoardPlugins.firstCoordinate(pawns));
+        }
+        return key;
+    }
+
+    public static long calculateKey(Board board) {
+        return calculateKey(board.getAllPieces(), board.getMoveMaker(),
+                board.getCastlingRights(), board.getEnPassantPawn());
+    }
+
+    static long calculateKey(Collection<Piece> pieces,
+                             Alliance moveMaker,
+                             int castlingRights,
+                             Pawn enPassantPawn) {
+        long key = 0L;
+        for (Piece piece : pieces) {
+            key ^= pieceKey(piece, piece.getPiecePosition());
+        }
+        if (moveMaker.isBlack()) {
+            key ^= BLACK_TO_MOVE_KEY;
+        }
+        return key ^ castlingKey(castlingRights) ^ enPassantKey(enPassantPawn);
+    }
+}
@@ -1,9 +1,13 @@
 package com.suai.chess.model.board.movement;
 
+import com.suai.chess.model.board.BitBoardPlugins;
 import com.suai.chess.model.board.Board;
 import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.board.Zobrist;
 import com.suai.chess.model.pieces.Pawn;
 import com.suai.chess.model.pieces.Piece;
+import com.suai.chess.model.pieces.Piece.PieceType;
+import com.suai.chess.model.pieces.PiecePool;
 import com.suai.chess.model.pieces.Rook;
 
 import static com.suai.chess.model.board.Board.*;
@@ -68,9 +72,26 @@ public abstract class Move {
         }
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(calculateZobristKey());
         return builder.build();
     }
 
+    protected long calculateZobristKey() {
+        int castlingRights = this.board.getCastlingRights();
+        long key = this.board.getZobristKey() ^ Zobrist.sideToMoveKey() ^
+                Zobrist.enPassantKey(this.board.getEnPassantPawn()) ^
+                Zobrist.pieceKey(this.movedPiece, getCurrentCoordinate()) ^
+                Zobrist.pieceKey(this.movedPiece, this.destinationCoordinate) ^
+                Zobrist.castlingKey(castlingRights) ^
+                Zobrist.castlingKey(castlingRights & BoardPlugins.CASTLING_RIGHTS_MASK[getCurrentCoordinate()] &
+                        BoardPlugins.CASTLING_RIGHTS_MASK[this.destinationCoordinate]);
+        Piece attackedPiece = getAttackedPiece();
+        if (attackedPiece != null) {
+            key ^= Zobrist.pieceKey(attackedPiece, attackedPiece.getPiecePosition());
+        }
+        return key;
+    }
+
     public Board previousBoard() {
         Builder builder = new Builder();
         for (Piece piece : this.board.getAllPieces()) {
@@ -279,6 +300,7 @@ public abstract class Move {
             }
             builder.setPiece(this.movedPiece.movePiece(this));
             builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
@@ -326,9 +348,15 @@ public abstract class Move {
             builder.setPiece(movePawn);
             builder.setEnPassantPawn(movePawn);
             builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        @Override
+        protected long calculateZobristKey() {
+            return super.calculateZobristKey() ^ Zobrist.enPassantKey(this.destinationCoordinate);
+        }
+
         @Override
         public String toString() {
             return BoardPlugins.getPositionAtCoordinate(this.destinationCoordinate);
@@ -338,11 +366,17 @@ public abstract class Move {
     public static class PawnPromotion extends Move {
         Move decoratedMove;
         Pawn promotedPawn;
+        PieceType promotionType;
 
         public PawnPromotion(Move decorateMove) {
+            this(decorateMove, PieceType.QUEEN);
+        }
+
+        public PawnPromotion(Move decorateMove, PieceType promotionType) {
             super(decorateMove.getBoard(), decorateMove.getMovedPiece(), decorateMove.getDestinationCoordinate());
             this.decoratedMove = decorateMove;
             this.promotedPawn = (Pawn) decoratedMove.getMovedPiece();
+            this.promotionType = promotionType;
         }
 
         @Override
@@ -357,11 +391,24 @@ public abstract class Move {
             for (Piece piece : pawnMovedBoard.getCurrentPlayer().getOpponent().getActivePieces()) {
                 builder.setPiece(piece);
             }
-            builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
+            builder.setPiece(this.promotedPawn.getPromotionPiece(this.promotionType).movePiece(this));
             builder.setMoveMaker(pawnMovedBoard.getCurrentPlayer().getAlliance());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        @Override
+        protected long calculateZobristKey() {
+            return this.decoratedMove.calculateZobristKey() ^
+                    Zobrist.pieceKey(this.promotedPawn, this.destinationCoordinate) ^
+                    Zobrist.pieceKey(BitBoardPlugins.pieceIndex(this.promotionType, this.promotedPawn.getPieceAlliance()),
+                            this.destinationCoordinate);
+        }
+
+        public PieceType getPromotionType() {
+            return this.promotionType;
+        }
+
         @Override
         public boolean isAttack() {
             return this.decoratedMove.isAttack();
@@ -374,7 +421,7 @@ public abstract class Move {
 
         @Override
         public int hashCode() {
-            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode());
+            return decoratedMove.hashCode() + (31 * promotedPawn.hashCode()) + promotionType.hashCode();
         }
 
         @Override
@@ -388,7 +435,7 @@ public abstract class Move {
             if (getClass() != other.getClass()) {
                 return false;
             }
-            return super.equals(other);
+            return this.promotionType == ((PawnPromotion) other).promotionType && super.equals(other);
         }
 
         @Override
@@ -435,12 +482,20 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
             builder.setPiece(this.movedPiece.movePiece(this));
-            builder.setPiece(new Rook(this.castleRook.getPieceAlliance(), this.castleRookDestination, false));
+            builder.setPiece(PiecePool.getPiece(PieceType.ROOK, this.castleRook.getPieceAlliance(),
+                    this.castleRookDestination, false));
             builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
-
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        @Override
+        protected long calculateZobristKey() {
+            return super.calculateZobristKey() ^
+                    Zobrist.pieceKey(this.castleRook, this.castleRookStart) ^
+                    Zobrist.pieceKey(this.castleRook, this.castleRookDestination);
+        }
+
         @Override
         public int hashCode() {
             int prime = 31;
@@ -537,6 +592,8 @@ public abstract class Move {
     }
 
     public static class MoveFactory {
+        private static final Move NULL_MOVE = new NullMove();
+
         private MoveFactory() {
             throw new RuntimeException("Not instantiable!");
         }
@@ -550,11 +607,11 @@ public abstract class Move {
                     return move;
                 }
             }
-            return new NullMove();
+            return NULL_MOVE;
         }
 
         public static Move getNullMove() {
-            return new NullMove();
+            return NULL_MOVE;
         }
     }
 }
@@ -0,0 +1,62 @@
+package com.suai.chess.model.board.movement;
+
+import java.util.Arrays;
+
+public class MoveList {
+    private final int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(MovePlugins.MAX_MOVES);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new int[capacity];
+    }
+
+    public void add(int move) {
+        this.moves[this.size++] = move;
+    }
+
+    public int get(int index) {
+        return this.moves[index];
+    }
+
+    public void set(int index, int move) {
+        this.moves[index] = move;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public boolean contains(int move) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(this.moves, this.size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(MovePlugins.toString(this.moves[i]));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.suai.chess.model.board.movement;
+
+import com.suai.chess.model.board.BitBoardPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.suai.chess.model.board.movement.Move.*;
+
+public class MovePlugins {
+    public static final int NO_MOVE = 0;
+    public static final int MAX_MOVES = 256;
+
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int KING_SIDE_CASTLE = 3;
+    public static final int QUEEN_SIDE_CASTLE = 4;
+    public static final int PROMOTION = 5;
+    public static final int NO_PIECE = -1;
+
+    // Bits 0-5 from, 6-11 to, 12-15 flag, 16-19 moved piece + 1 and 20-23 captured piece + 1 (0 if none).
+    // The low 16 bits alone identify a move in a position; that is what the transposition table keeps.
+    private static final int COORDINATE_MASK = 0x3F;
+    private static final int DESTINATION_SHIFT = 6;
+    private static final int FLAG_SHIFT = 12;
+    private static final int FLAG_MASK = 0xF;
+    private static final int MOVED_PIECE_SHIFT = 16;
+    private static final int CAPTURED_PIECE_SHIFT = 20;
+    private static final int PIECE_MASK = 0xF;
+    private static final int MOVE_KEY_MASK = 0xFFFF;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private MovePlugins() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static int createMove(int currentCoordinate, int destinationCoordinate, int flag,
+                                 int movedPiece, int capturedPiece) {
+        return currentCoordinate | destinationCoordinate << DESTINATION_SHIFT | flag << FLAG_SHIFT |
+                (movedPiece + 1) << MOVED_PIECE_SHIFT | (capturedPiece + 1) << CAPTURED_PIECE_SHIFT;
+    }
+
+    public static int createPromotion(int currentCoordinate, int destinationCoordinate, PieceType promotionType,
+                                      int movedPiece, int capturedPiece) {
+        return createMove(currentCoordinate, destinationCoordinate, PROMOTION + promotionType.ordinal(),
+                movedPiece, capturedPiece);
+    }
+
+    public static int getCurrentCoordinate(int move) {
+        return move & COORDINATE_MASK;
+    }
+
+    public static int getDestinationCoordinate(int move) {
+        return (move >>> DESTINATION_SHIFT) & COORDINATE_MASK;
+    }
+
+    public static int getFlag(int move) {
+        return (move >>> FLAG_SHIFT) & FLAG_MASK;
+    }
+
+    public static boolean isPromotion(int move) {
+        return getFlag(move) >= PROMOTION;
+    }
+
+    public static PieceType getPromotionType(int move) {
+        return PIECE_TYPES[getFlag(move) - PROMOTION];
+    }
+
+    public static int getMovedPiece(int move) {
+        return ((move >>> MOVED_PIECE_SHIFT) & PIECE_MASK) - 1;
+    }
+
+    public static int getCapturedPiece(int move) {
+        return ((move >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK) - 1;
+    }
+
+    public static boolean isCapture(int move) {
+        return getCapturedPiece(move) != NO_PIECE;
+    }
+
+    public static int getMoveKey(int move) {
+        return move & MOVE_KEY_MASK;
+    }
+
+    public static boolean isSameMove(int move, int other) {
+        return getMoveKey(move) == getMoveKey(other);
+    }
+
+    public static int encode(Move move) {
+        int flag = QUIET;
+        int movedPiece = BitBoardPlugins.pieceIndex(move.getMovedPiece());
+        int capturedPiece = move.isAttack() ? BitBoardPlugins.pieceIndex(move.getAttackedPiece()) : NO_PIECE;
+        if (move instanceof PawnPromotion) {
+            return createPromotion(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                    ((PawnPromotion) move).getPromotionType(), movedPiece, capturedPiece);
+        } else if (move instanceof PawnJump) {
+            flag = PAWN_JUMP;
+        } else if (move instanceof PawnEnPassantAttackedMove) {
+            flag = EN_PASSANT;
+        } else if (move instanceof KingSideCastleMove) {
+            flag = KING_SIDE_CASTLE;
+        } else if (move instanceof QueenSideCastleMove) {
+            flag = QUEEN_SIDE_CASTLE;
+        }
+        return createMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(), flag, movedPiece,
+                capturedPiece);
+    }
+
+    public static Move decode(Board board, int move) {
+        for (Move legalMove : board.getCurrentPlayer().getLegalMoves()) {
+            if (isSameMove(encode(legalMove), move)) {
+                return legalMove;
+            }
+        }
+        return MoveFactory.getNullMove();
+    }
+
+    public static List<Move> decodeLine(Board board, int[] line, int length) {
+        List<Move> moves = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            Move move = decode(board, line[i]);
+            // A stale or colliding entry that is not legal here ends the line.
+            if (move instanceof NullMove) {
+                break;
+            }
+            moves.add(move);
+            board = move.perform();
+        }
+        return Collections.unmodifiableList(moves);
+    }
+
+    public static String toString(int move) {
+        String notation = BoardPlugins.getPositionAtCoordinate(getCurrentCoordinate(move)) +
+                BoardPlugins.getPositionAtCoordinate(getDestinationCoordinate(move));
+        return isPromotion(move) ? notation + getPromotionType(move).toString().toLowerCase() : notation;
+    }
+}
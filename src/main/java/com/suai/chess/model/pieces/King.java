@@ -1,19 +1,12 @@
 package com.suai.chess.model.pieces;
 
+import com.suai.chess.model.board.AttackTables;
 import com.suai.chess.model.board.Board;
-import com.suai.chess.model.board.BoardPlugins;
-import com.suai.chess.model.board.Tile;
 import com.suai.chess.model.board.movement.Move;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-
-import static com.suai.chess.model.board.movement.Move.*;
 
 public class King extends Piece {
-    private static final int[] CANDIDATE_MOVE_VECTOR_COORDINATE = {-9, -8, -7, -1, 1, 7, 8, 9};
     private final boolean isCastle;
     private final boolean kingSideCastleCapable;
     private final boolean queenSideCastleCapable;
@@ -54,34 +47,12 @@ public class King extends Piece {
 
     @Override
     public Collection<Move> calculateLegalMoves(Board board) {
-        List<Move> legalMoves = new ArrayList<>();
-        for (int currentCoordinateOffset : CANDIDATE_MOVE_VECTOR_COORDINATE) {
-            int candidateDestinationCoordinate = this.piecePosition + currentCoordinateOffset;
-            if (BoardPlugins.isValidTileCoordinate(candidateDestinationCoordinate)) {
-                if (isFirstColumnExclusion(this.piecePosition, currentCoordinateOffset) ||
-                        isEighthColumnExclusion(this.piecePosition, currentCoordinateOffset)) {
-                    continue;
-                }
-                Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-                if (!candidateDestinationTile.isTileOccupied()) {
-                    legalMoves.add(new EmptyMove(board, this, candidateDestinationCoordinate));
-                } else {
-                    Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    Alliance selectedPieceAlliance = pieceAtDestination.getPieceAlliance();
-                    if (this.pieceAlliance != selectedPieceAlliance) {
-                        legalMoves.add(new AttackedMove(board, this, candidateDestinationCoordinate,
-                                pieceAtDestination));
-                    }
-                }
-            }
-        }
-        return Collections.unmodifiableList(legalMoves);
+        return calculateMoves(board, AttackTables.kingAttacks(this.piecePosition));
     }
 
-
     @Override
     public King movePiece(Move move) {
-        return new King(move.getMovedPiece().getPieceAlliance(),
+        return PiecePool.getKing(move.getMovedPiece().getPieceAlliance(),
                 move.getDestinationCoordinate(),
                 false,
                 move.isCastlingMove(),
@@ -93,14 +64,4 @@ public class King extends Piece {
     public String toString() {
         return PieceType.KING.toString();
     }
-
-    private static boolean isFirstColumnExclusion(int currentPosition, int candidateOffset) {
-        return BoardPlugins.FIRST_COLUMN[currentPosition] && (candidateOffset == -9 || candidateOffset == -1 ||
-                candidateOffset == 7);
-    }
-
-    private static boolean isEighthColumnExclusion(int currentPosition, int candidateOffset) {
-        return BoardPlugins.FIRST_COLUMN[currentPosition] && (candidateOffset == -7 || candidateOffset == 1 ||
-                candidateOffset == 9);
-    }
-}
\ No newline at end of file
+}
@@ -1,7 +1,8 @@
 package com.suai.chess.model.pieces;
 
+import com.suai.chess.model.board.AttackTables;
+import com.suai.chess.model.board.BitBoardPlugins;
 import com.suai.chess.model.board.BoardPlugins;
-import com.suai.chess.model.board.Tile;
 import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.Board;
 
@@ -13,7 +14,8 @@ import java.util.Collection;
 import static com.suai.chess.model.board.movement.Move.*;
 
 public class Pawn extends Piece {
-    private final static int[] CANDIDATE_MOVE_COORDINATES = {7, 8, 9, 16};
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+            PieceType.KNIGHT};
 
     public Pawn(Alliance pieceAlliance, int piecePosition) {
         super(pieceAlliance, piecePosition, PieceType.PAWN, true);
@@ -26,84 +28,42 @@ public class Pawn extends Piece {
     @Override
     public Collection<Move> calculateLegalMoves(Board board) {
         List<Move> legalMoves = new ArrayList<>();
-        for (int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES) {
-            int candidateDestinationCoordinate =
-                    this.piecePosition + (this.getPieceAlliance().getDirection() * currentCandidateOffset);
-            if (!BoardPlugins.isValidTileCoordinate(candidateDestinationCoordinate)) {
-                continue;
+        int direction = this.pieceAlliance.getDirection();
+        int candidateDestinationCoordinate = this.piecePosition + direction * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+        if (BoardPlugins.isValidTileCoordinate(candidateDestinationCoordinate) &&
+                !board.isTileOccupied(candidateDestinationCoordinate)) {
+            if (this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
+                addPromotions(legalMoves, new PawnMove(board, this, candidateDestinationCoordinate));
+            } else {
+                legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
             }
-            if (currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                    legalMoves.add(new PawnPromotion(new PawnMove(board, this, candidateDestinationCoordinate)));
-                } else {
-                    legalMoves.add(new PawnMove(board, this, candidateDestinationCoordinate));
-                }
-            }
-            else if (currentCandidateOffset == 16 && this.isFirstMove() &&
+            int jumpDestinationCoordinate = candidateDestinationCoordinate +
+                    direction * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+            if (this.isFirstMove() &&
                     ((BoardPlugins.SEVENTH_ROW_FROM_BELOW[this.piecePosition] && this.pieceAlliance.isBlack()) ||
-                            (BoardPlugins.SECOND_ROW_FROM_BELOW[this.piecePosition] && this.pieceAlliance.isWhite()))) {
-                int behindCandidateDestinationCoordinate =
-                        this.piecePosition + (this.pieceAlliance.getDirection() * 8);
-                if (!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied() &&
-                        !board.getTile(candidateDestinationCoordinate).isTileOccupied()) {
-                    legalMoves.add(new PawnJump(board, this, candidateDestinationCoordinate));
-                }
-            } else if (currentCandidateOffset == 7 &&
-                    !((BoardPlugins.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-                            (BoardPlugins.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))) {
-                Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-                if (candidateDestinationTile.isTileOccupied()) {
-                    Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    Alliance selectedPieceAlliance = pieceAtDestination.getPieceAlliance();
-                    if (this.pieceAlliance != selectedPieceAlliance) {
-                        if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(new PawnAttackedMove(board,
-                                    this,
-                                    candidateDestinationCoordinate,
-                                    pieceAtDestination)));
-                        } else {
-                            legalMoves.add(new PawnAttackedMove(board, this, candidateDestinationCoordinate,
-                                    pieceAtDestination));
-                        }
-                    }
-                } else if(board.getEnPassantPawn() != null) {
-                    if(board.getEnPassantPawn().getPiecePosition() ==
-                            (this.piecePosition + (this.pieceAlliance.getOppositeDirection()))) {
-                        Piece pieceAtDestination = board.getEnPassantPawn();
-                        if(this.pieceAlliance != pieceAtDestination.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackedMove(board, this,
-                                    candidateDestinationCoordinate, pieceAtDestination));
-                        }
-                    }
-                }
-            } else if (currentCandidateOffset == 9 &&
-                    !((BoardPlugins.FIRST_COLUMN[this.piecePosition] && this.pieceAlliance.isWhite()) ||
-                            (BoardPlugins.EIGHTH_COLUMN[this.piecePosition] && this.pieceAlliance.isBlack()))) {
-                Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-                if (candidateDestinationTile.isTileOccupied()) {
-                    Piece pieceAtDestination = candidateDestinationTile.getPiece();
-                    Alliance selectedPieceAlliance = pieceAtDestination.getPieceAlliance();
-                    if (this.pieceAlliance != selectedPieceAlliance) {
-                        if(this.pieceAlliance.isPawnPromotionSquare(candidateDestinationCoordinate)) {
-                            legalMoves.add(new PawnPromotion(new PawnAttackedMove(board,
-                                    this,
-                                    candidateDestinationCoordinate,
-                                    pieceAtDestination)));
-                        } else {
-                            legalMoves.add(new PawnAttackedMove(board, this, candidateDestinationCoordinate,
-                                    pieceAtDestination));
-                        }
-                    }
-                } else if(board.getEnPassantPawn() != null) {
-                    if(board.getEnPassantPawn().getPiecePosition() ==
-                            (this.piecePosition - (this.pieceAlliance.getOppositeDirection()))) {
-                        Piece pieceAtDestination = board.getEnPassantPawn();
-                        if(this.pieceAlliance != pieceAtDestination.getPieceAlliance()) {
-                            legalMoves.add(new PawnEnPassantAttackedMove(board, this,
-                                    candidateDestinationCoordinate, pieceAtDestination));
-                        }
-                    }
-                }
+                            (BoardPlugins.SECOND_ROW_FROM_BELOW[this.piecePosition] && this.pieceAlliance.isWhite())) &&
+                    !board.isTileOccupied(jumpDestinationCoordinate)) {
+                legalMoves.add(new PawnJump(board, this, jumpDestinationCoordinate));
+            }
+        }
+        long attacks = AttackTables.pawnAttacks(this.piecePosition, this.pieceAlliance);
+        long captures = attacks &
+                board.getAllianceBitBoard(this.pieceAlliance.isWhite() ? Alliance.BLACK : Alliance.WHITE);
+        for (; captures != BitBoardPlugins.EMPTY; captures &= captures - 1) {
+            int attackCoordinate = BitBoardPlugins.firstCoordinate(captures);
+            Piece pieceAtDestination = board.getPiece(attackCoordinate);
+            if (this.pieceAlliance.isPawnPromotionSquare(attackCoordinate)) {
+                addPromotions(legalMoves, new PawnAttackedMove(board, this, attackCoordinate, pieceAtDestination));
+            } else {
+                legalMoves.add(new PawnAttackedMove(board, this, attackCoordinate, pieceAtDestination));
+            }
+        }
+        Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn != null && enPassantPawn.getPieceAlliance() != this.pieceAlliance) {
+            int enPassantCoordinate = enPassantPawn.getPiecePosition() +
+                    direction * BoardPlugins.NUM_TILES_PER_COLUMN_OR_ROW;
+            if (BitBoardPlugins.isSet(attacks, enPassantCoordinate)) {
+                legalMoves.add(new PawnEnPassantAttackedMove(board, this, enPassantCoordinate, enPassantPawn));
             }
         }
         return Collections.unmodifiableList(legalMoves);
@@ -111,11 +71,31 @@ public class Pawn extends Piece {
 
     @Override
     public Pawn movePiece(Move move) {
-        return new Pawn(move.getMovedPiece().getPieceAlliance(), move.getDestinationCoordinate());
+        return (Pawn) PiecePool.getPiece(PieceType.PAWN, move.getMovedPiece().getPieceAlliance(),
+                move.getDestinationCoordinate(), false);
     }
 
     public Piece getPromotionPiece() {
-        return new Queen(this.pieceAlliance, this.piecePosition, false);
+        return getPromotionPiece(PieceType.QUEEN);
+    }
+
+    public Piece getPromotionPiece(PieceType promotionType) {
+        switch (promotionType) {
+            case KNIGHT:
+                return PiecePool.getPiece(PieceType.KNIGHT, this.pieceAlliance, this.piecePosition, false);
+            case BISHOP:
+                return PiecePool.getPiece(PieceType.BISHOP, this.pieceAlliance, this.piecePosition, false);
+            case ROOK:
+                return PiecePool.getPiece(PieceType.ROOK, this.pieceAlliance, this.piecePosition, false);
+            default:
+                return PiecePool.getPiece(PieceType.QUEEN, this.pieceAlliance, this.piecePosition, false);
+        }
+    }
+
+    private static void addPromotions(List<Move> legalMoves, Move pawnMove) {
+        for (PieceType promotionType : PROMOTION_TYPES) {
+            legalMoves.add(new PawnPromotion(pawnMove, promotionType));
+        }
     }
 
     @Override
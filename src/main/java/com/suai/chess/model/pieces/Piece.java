@@ -1,9 +1,15 @@
 package com.suai.chess.model.pieces;
 
+import com.suai.chess.model.board.BitBoardPlugins;
 import com.suai.chess.model.board.Board;
 import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.board.movement.Move.AttackedMove;
+import com.suai.chess.model.board.movement.Move.EmptyMove;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public abstract class Piece {
     protected final PieceType pieceType;
@@ -68,6 +74,21 @@ public abstract class Piece {
 
     public abstract Collection<Move> calculateLegalMoves(Board board);
 
+    protected Collection<Move> calculateMoves(Board board, long attackBitBoard) {
+        long destinations = attackBitBoard & ~board.getAllianceBitBoard(this.pieceAlliance);
+        List<Move> legalMoves = new ArrayList<>(Long.bitCount(destinations));
+        for (; destinations != BitBoardPlugins.EMPTY; destinations &= destinations - 1) {
+            int candidateDestinationCoordinate = BitBoardPlugins.firstCoordinate(destinations);
+            Piece pieceAtDestination = board.getPiece(candidateDestinationCoordinate);
+            if (pieceAtDestination == null) {
+                legalMoves.add(new EmptyMove(board, this, candidateDestinationCoordinate));
+            } else {
+                legalMoves.add(new AttackedMove(board, this, candidateDestinationCoordinate, pieceAtDestination));
+            }
+        }
+        return Collections.unmodifiableList(legalMoves);
+    }
+
     public abstract Piece movePiece(Move move);
 
     public enum PieceType {
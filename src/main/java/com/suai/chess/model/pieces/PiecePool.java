@@ -0,0 +1,80 @@
+package com.suai.chess.model.pieces;
+
+import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class PiecePool {
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final int NUM_PIECE_TYPES = PieceType.values().length;
+    private static final int FIRST_MOVE_VARIANTS = 2;
+    // First move, castled, king side and queen side castle capable.
+    private static final int KING_VARIANTS = 16;
+
+    private static final Piece[] PIECES =
+            new Piece[NUM_PIECE_TYPES * ALLIANCES.length * BoardPlugins.NUM_TILES * FIRST_MOVE_VARIANTS];
+    private static final King[] KINGS = new King[ALLIANCES.length * BoardPlugins.NUM_TILES * KING_VARIANTS];
+
+    static {
+        for (Alliance alliance : ALLIANCES) {
+            for (int position = 0; position < BoardPlugins.NUM_TILES; position++) {
+                for (int variant = 0; variant < FIRST_MOVE_VARIANTS; variant++) {
+                    boolean isFirstMove = variant == 1;
+                    PIECES[index(PieceType.PAWN, alliance, position, isFirstMove)] =
+                            new Pawn(alliance, position, isFirstMove);
+                    PIECES[index(PieceType.KNIGHT, alliance, position, isFirstMove)] =
+                            new Knight(alliance, position, isFirstMove);
+                    PIECES[index(PieceType.BISHOP, alliance, position, isFirstMove)] =
+                            new Bishop(alliance, position, isFirstMove);
+                    PIECES[index(PieceType.ROOK, alliance, position, isFirstMove)] =
+                            new Rook(alliance, position, isFirstMove);
+                    PIECES[index(PieceType.QUEEN, alliance, position, isFirstMove)] =
+                            new Queen(alliance, position, isFirstMove);
+                }
+                for (int variant = 0; variant < KING_VARIANTS; variant++) {
+                    KINGS[kingIndex(alliance, position, variant)] = new King(alliance, position,
+                            (variant & 1) != 0, (variant & 2) != 0, (variant & 4) != 0, (variant & 8) != 0);
+                }
+            }
+        }
+    }
+
+    private PiecePool() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static Piece getPiece(PieceType pieceType, Alliance alliance, int position, boolean isFirstMove) {
+        if (pieceType == PieceType.KING) {
+            return getKing(alliance, position, isFirstMove, false, false, false);
+        }
+        return PIECES[index(pieceType, alliance, position, isFirstMove)];
+    }
+
+    public static King getKing(Alliance alliance,
+                               int position,
+                               boolean isFirstMove,
+                               boolean isCastle,
+                               boolean kingSideCastleCapable,
+                               boolean queenSideCastleCapable) {
+        int variant = (isFirstMove ? 1 : 0) | (isCastle ? 2 : 0) | (kingSideCastleCapable ? 4 : 0) |
+                (queenSideCastleCapable ? 8 : 0);
+        return KINGS[kingIndex(alliance, position, variant)];
+    }
+
+    public static Piece intern(Piece piece) {
+        if (piece.isParticularPiece(PieceType.KING)) {
+            King king = (King) piece;
+            return getKing(king.getPieceAlliance(), king.getPiecePosition(), king.isFirstMove(), king.isCastle(),
+                    king.isKingSideCastleCapable(), king.isQueenSideCastleCapable());
+        }
+        return getPiece(piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), piece.isFirstMove());
+    }
+
+    private static int index(PieceType pieceType, Alliance alliance, int position, boolean isFirstMove) {
+        return ((pieceType.ordinal() * ALLIANCES.length + alliance.ordinal()) * BoardPlugins.NUM_TILES + position) *
+                FIRST_MOVE_VARIANTS + (isFirstMove ? 1 : 0);
+    }
+
+    private static int kingIndex(Alliance alliance, int position, int variant) {
+        return (alliance.ordinal() * BoardPlugins.NUM_TILES + position) * KING_VARIANTS + variant;
+    }
+}
@@ -1,13 +1,12 @@
 package com.suai.chess.model.player;
 
 import com.suai.chess.model.board.Board;
-import com.suai.chess.model.board.Tile;
+import com.suai.chess.model.board.BoardPlugins;
 import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.movement.Move.QueenSideCastleMove;
 import com.suai.chess.model.pieces.Alliance;
 import com.suai.chess.model.pieces.*;
 import com.suai.chess.model.pieces.Piece;
-import com.suai.chess.model.pieces.Piece.PieceType;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -15,10 +14,8 @@ import java.util.Collections;
 import java.util.List;
 
 public class BlackPlayer extends Player {
-    public BlackPlayer(Board board,
-                       Collection<Move> whiteStandardLegalMoves,
-                       Collection<Move> blackStandardLegalMoves) {
-        super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+    public BlackPlayer(Board board) {
+        super(board);
     }
 
     @Override
@@ -37,41 +34,25 @@ public class BlackPlayer extends Player {
     }
 
     @Override
-    public Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-                                                 Collection<Move> opponentsLegals) {
-        if (hasCastling()) {
+    public Collection<Move> calculateKingCastles() {
+        if (this.isInCheck()) {
             return Collections.emptyList();
         }
 
         List<Move> kingCastles = new ArrayList<>();
-        if (this.playerKing.isFirstMove() && !this.isInCheck()) {
-            if (!this.board.getTile(5).isTileOccupied() &&
-                    !this.board.getTile(6).isTileOccupied()) {
-                Tile rookTile = this.board.getTile(7);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(5, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(6, opponentsLegals).isEmpty() &&
-                            rookTile.getPiece().isParticularPiece(PieceType.ROOK)) {
-                        kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 6,
-                                (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 5));
-                    }
-                }
-            }
+        if (this.board.hasCastlingRight(BoardPlugins.BLACK_KING_SIDE_CASTLE) &&
+                isTileSafe(5) &&
+                isTileSafe(6)) {
+            kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 6,
+                    (Rook) this.board.getPiece(7), 7, 5));
+        }
 
-            if (!this.board.getTile(1).isTileOccupied() &&
-                    !this.board.getTile(2).isTileOccupied() &&
-                    !this.board.getTile(3).isTileOccupied()) {
-                Tile rookTile = this.board.getTile(0);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(1, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(2, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(3, opponentsLegals).isEmpty() &&
-                            rookTile.getPiece().isParticularPiece(PieceType.ROOK)) {
-                        kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 2,
-                                (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
-                    }
-                }
-            }
+        if (this.board.hasCastlingRight(BoardPlugins.BLACK_QUEEN_SIDE_CASTLE) &&
+                isTileSafe(3) &&
+                isTileSafe(2) &&
+                !this.board.isTileOccupied(1)) {
+            kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 2,
+                    (Rook) this.board.getPiece(0), 0, 3));
         }
         return Collections.unmodifiableList(kingCastles);
     }
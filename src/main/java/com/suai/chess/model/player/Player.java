@@ -1,9 +1,13 @@
 package com.suai.chess.model.player;
 
 import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.board.AttackTables;
+import com.suai.chess.model.board.BitBoardPlugins;
 import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.BoardPlugins;
 import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.movement.Move.MoveStatus;
+import com.suai.chess.model.board.movement.Move.PawnEnPassantAttackedMove;
 import com.suai.chess.model.board.movement.MoveTransition;
 import com.suai.chess.model.pieces.King;
 import com.suai.chess.model.pieces.Piece;
@@ -17,17 +21,13 @@ import java.util.List;
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
     private final boolean isInCheck;
+    private volatile Collection<Move> legalMoves;
 
-    public Player(Board board,
-                  Collection<Move> legalMoves,
-                  Collection<Move> opponentMoves) {
+    public Player(Board board) {
         this.board = board;
         this.playerKing = establishKing();
-        //TODO: legal moves add for player, but should for king
-        this.legalMoves = createAllLegalMoves(legalMoves, opponentMoves);
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
+        this.isInCheck = board.isKingAttacked(getAlliance());
     }
 
     public King getPlayerKing() {
@@ -35,25 +35,80 @@ public abstract class Player {
     }
 
     public Collection<Move> getLegalMoves() {
-        return this.legalMoves;
-    }
-
-    public Collection<Move> createAllLegalMoves(Collection<Move> legalMoves,
-                                                Collection<Move> opponentMoves) {
-        List<Move> allLegalMoves = new ArrayList<>();
-        allLegalMoves.addAll(legalMoves);
-        allLegalMoves.addAll(calculateKingCastles(legalMoves, opponentMoves));
-        return allLegalMoves;
-    }
-
-    protected static Collection<Move> calculateAttacksOnTile(int position, Collection<Move> opponentMoves) {
-        List<Move> attackMoves = new ArrayList<>();
-        for (Move move : opponentMoves) {
-            if (position == move.getDestinationCoordinate()) {
-                attackMoves.add(move);
+        Collection<Move> moves = this.legalMoves;
+        if (moves == null) {
+            //TODO: legal moves add for player, but should for king
+            this.legalMoves = moves = createAllLegalMoves(this.board.getStandardMoves(getAlliance()));
+        }
+        return moves;
+    }
+
+    public Collection<Move> createAllLegalMoves(Collection<Move> standardMoves) {
+        Alliance opponent = getOpponentAlliance();
+        int kingCoordinate = this.playerKing.getPiecePosition();
+        long occupied = this.board.getOccupiedBitBoard();
+        long checkers = this.board.calculateAttackers(kingCoordinate, opponent);
+        long evasionMask = ~BitBoardPlugins.EMPTY;
+        if (Long.bitCount(checkers) > 1) {
+            evasionMask = BitBoardPlugins.EMPTY;
+        } else if (checkers != BitBoardPlugins.EMPTY) {
+            evasionMask = checkers | AttackTables.between(kingCoordinate, BitBoardPlugins.firstCoordinate(checkers));
+        }
+        long pinned = calculatePinnedPieces(kingCoordinate, occupied);
+
+        List<Move> allLegalMoves = new ArrayList<>(standardMoves.size());
+        for (Move move : standardMoves) {
+            int from = move.getCurrentCoordinate();
+            int to = move.getDestinationCoordinate();
+            boolean isLegal;
+            if (from == kingCoordinate) {
+                isLegal = !this.board.isSquareAttacked(to, opponent, occupied & ~BitBoardPlugins.bit(from));
+            } else if (move instanceof PawnEnPassantAttackedMove) {
+                isLegal = isEnPassantLegal(move, kingCoordinate, occupied);
+            } else {
+                isLegal = BitBoardPlugins.isSet(evasionMask, to) &&
+                        (!BitBoardPlugins.isSet(pinned, from) ||
+                                BitBoardPlugins.isSet(AttackTables.line(kingCoordinate, from), to));
+            }
+            if (isLegal) {
+                allLegalMoves.add(move);
+            }
+        }
+        allLegalMoves.addAll(calculateKingCastles());
+        return Collections.unmodifiableList(allLegalMoves);
+    }
+
+    private long calculatePinnedPieces(int kingCoordinate, long occupied) {
+        Alliance opponent = getOpponentAlliance();
+        long queens = this.board.getPieceBitBoard(PieceType.QUEEN, opponent);
+        long snipers = (AttackTables.rookAttacks(kingCoordinate, BitBoardPlugins.EMPTY) &
+                (this.board.getPieceBitBoard(PieceType.ROOK, opponent) | queens)) |
+                (AttackTables.bishopAttacks(kingCoordinate, BitBoardPlugins.EMPTY) &
+                        (this.board.getPieceBitBoard(PieceType.BISHOP, opponent) | queens));
+        long pinned = BitBoardPlugins.EMPTY;
+        for (; snipers != BitBoardPlugins.EMPTY; snipers &= snipers - 1) {
+            long blockers = AttackTables.between(kingCoordinate, BitBoardPlugins.firstCoordinate(snipers)) & occupied;
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & this.board.getAllianceBitBoard(getAlliance());
             }
         }
-        return Collections.unmodifiableList(attackMoves);
+        return pinned;
+    }
+
+    private boolean isEnPassantLegal(Move move, int kingCoordinate, long occupied) {
+        Alliance opponent = getOpponentAlliance();
+        long capturedPawn = BitBoardPlugins.bit(move.getAttackedPiece().getPiecePosition());
+        long occupiedAfter = (occupied & ~BitBoardPlugins.bit(move.getCurrentCoordinate()) & ~capturedPawn) |
+                BitBoardPlugins.bit(move.getDestinationCoordinate());
+        long queens = this.board.getPieceBitBoard(PieceType.QUEEN, opponent);
+        return (AttackTables.pawnAttacks(kingCoordinate, getAlliance()) &
+                this.board.getPieceBitBoard(PieceType.PAWN, opponent) & ~capturedPawn) == BitBoardPlugins.EMPTY &&
+                (AttackTables.knightAttacks(kingCoordinate) &
+                        this.board.getPieceBitBoard(PieceType.KNIGHT, opponent)) == BitBoardPlugins.EMPTY &&
+                (AttackTables.bishopAttacks(kingCoordinate, occupiedAfter) &
+                        (this.board.getPieceBitBoard(PieceType.BISHOP, opponent) | queens)) == BitBoardPlugins.EMPTY &&
+                (AttackTables.rookAttacks(kingCoordinate, occupiedAfter) &
+                        (this.board.getPieceBitBoard(PieceType.ROOK, opponent) | queens)) == BitBoardPlugins.EMPTY;
     }
 
     private King establishKing() {
@@ -72,11 +127,11 @@ public abstract class Player {
     }
 
     public boolean isKingSideCastleCapable() {
-        return this.playerKing.isKingSideCastleCapable();
+        return this.board.hasCastlingRight(BoardPlugins.getKingSideCastle(getAlliance()));
     }
 
     public boolean isQueenSideCastleCapable() {
-        return this.playerKing.isQueenSideCastleCapable();
+        return this.board.hasCastlingRight(BoardPlugins.getQueenSideCastle(getAlliance()));
     }
 
     public abstract Collection<Piece> getActivePieces();
@@ -85,11 +140,19 @@ public abstract class Player {
 
     public abstract Player getOpponent();
 
-    public abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-                                                          Collection<Move> opponentsLegals);
+    protected Alliance getOpponentAlliance() {
+        return getAlliance().isWhite() ? Alliance.BLACK : Alliance.WHITE;
+    }
+
+    public abstract Collection<Move> calculateKingCastles();
+
+    protected boolean isTileSafe(int coordinate) {
+        return !this.board.isTileOccupied(coordinate) &&
+                !this.board.isSquareAttacked(coordinate, getOpponentAlliance());
+    }
 
     public boolean isMoveLegal(Move move) {
-        return this.legalMoves.contains(move);
+        return getLegalMoves().contains(move);
     }
 
     public boolean isInCheck() {
@@ -97,49 +160,27 @@ public abstract class Player {
     }
 
     public boolean isInCheckMate() {
-        return this.isInCheck && !hasEscapeMoves();
+        return this.isInCheck && getLegalMoves().isEmpty();
     }
 
     public boolean isInStaleMate() {
-        return !this.isInCheck && !hasEscapeMoves();
+        return !this.isInCheck && getLegalMoves().isEmpty();
     }
 
     public boolean isCastled() {
         return this.playerKing.isCastle();
     }
 
-    private boolean hasEscapeMoves() {
-        for (Move move : this.legalMoves) {
-            MoveTransition transition = makeMove(move);
-            if (transition.getMoveStatus().isDone()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     public MoveTransition makeMove(Move move) {
         if (!isMoveLegal(move)) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.ILLEGAL_MOVE);
-        }
-        Board transitionBoard = move.perform();
-        Player previousPlayer = transitionBoard.getCurrentPlayer().getOpponent();
-        int kingPositionOpponent = previousPlayer.getPlayerKing().getPiecePosition();
-        Collection<Move> legalMovesCurrentPlayer = transitionBoard.getCurrentPlayer().getLegalMoves();
-        Collection<Move> kingAttacks =
-                Player.calculateAttacksOnTile(kingPositionOpponent, legalMovesCurrentPlayer);
-        if (!kingAttacks.isEmpty()) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
+            MoveStatus moveStatus = this.board.getStandardMoves(getAlliance()).contains(move) ?
+                    MoveStatus.LEAVES_PLAYER_IN_CHECK : MoveStatus.ILLEGAL_MOVE;
+            return new MoveTransition(this.board, this.board, move, moveStatus);
         }
-        return new MoveTransition(this.board, transitionBoard, move, MoveStatus.DONE);
+        return new MoveTransition(this.board, move.perform(), move, MoveStatus.DONE);
     }
 
     public MoveTransition removeMakeMove(Move move) {
         return new MoveTransition(this.board, move.previousBoard(), move, MoveStatus.DONE);
     }
-
-    protected boolean hasCastling() {
-        return this.isInCheck || this.getPlayerKing().isCastle() ||
-                (!this.playerKing.isKingSideCastleCapable() && !this.playerKing.isQueenSideCastleCapable());
-    }
 }
@@ -2,8 +2,8 @@ package com.suai.chess.model.player;
 
 import com.suai.chess.model.pieces.Alliance;
 import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.BoardPlugins;
 import com.suai.chess.model.board.movement.Move;
-import com.suai.chess.model.board.Tile;
 import com.suai.chess.model.pieces.Piece;
 import com.suai.chess.model.pieces.Rook;
 
@@ -13,13 +13,10 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.suai.chess.model.board.movement.Move.*;
-import static com.suai.chess.model.pieces.Piece.*;
 
 public class WhitePlayer extends Player {
-    public WhitePlayer(Board board,
-                       Collection<Move> whiteStandardMoves,
-                       Collection<Move> blackStandardMoves) {
-        super(board, whiteStandardMoves, blackStandardMoves);
+    public WhitePlayer(Board board) {
+        super(board);
     }
 
     @Override
@@ -38,41 +35,25 @@ public class WhitePlayer extends Player {
     }
 
     @Override
-    public Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-                                                 Collection<Move> opponentsLegals) {
-        if (hasCastling()) {
+    public Collection<Move> calculateKingCastles() {
+        if (this.isInCheck()) {
             return Collections.emptyList();
         }
 
-        List<Move> kingCastles = new ArrayList<Move>();
-        if (this.playerKing.isFirstMove() && !this.isInCheck()) {
-            if (!this.board.getTile(61).isTileOccupied() &&
-                    !this.board.getTile(62).isTileOccupied()) {
-                Tile rookTile = this.board.getTile(63);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(61, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(62, opponentsLegals).isEmpty() &&
-                            rookTile.getPiece().isParticularPiece(PieceType.ROOK)) {
-                        kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 62,
-                                (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 61));
-                    }
-                }
-            }
+        List<Move> kingCastles = new ArrayList<>();
+        if (this.board.hasCastlingRight(BoardPlugins.WHITE_KING_SIDE_CASTLE) &&
+                isTileSafe(61) &&
+                isTileSafe(62)) {
+            kingCastles.add(new KingSideCastleMove(this.board, this.playerKing, 62,
+                    (Rook) this.board.getPiece(63), 63, 61));
+        }
 
-            if (!this.board.getTile(59).isTileOccupied() &&
-                    !this.board.getTile(58).isTileOccupied() &&
-                    !this.board.getTile(57).isTileOccupied()) {
-                Tile rookTile = this.board.getTile(56);
-                if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(58, opponentsLegals).isEmpty() &&
-                            Player.calculateAttacksOnTile(57, opponentsLegals).isEmpty() &&
-                            rookTile.getPiece().isParticularPiece(PieceType.ROOK)) {
-                        kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 58,
-                                (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
-                    }
-                }
-            }
+        if (this.board.hasCastlingRight(BoardPlugins.WHITE_QUEEN_SIDE_CASTLE) &&
+                isTileSafe(59) &&
+                isTileSafe(58) &&
+                !this.board.isTileOccupied(57)) {
+            kingCastles.add(new QueenSideCastleMove(this.board, this.playerKing, 58,
+                    (Rook) this.board.getPiece(56), 56, 59));
         }
         return Collections.unmodifiableList(kingCastles);
     }
@@ -0,0 +1,399 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
+import com.suai.chess.model.player.ai.TranspositionTable.BoundType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AlphaBeta implements MoveStrategy {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int DEADLINE_CHECK_MASK = 0x3FF;
+    private static final int ASPIRATION_WINDOW = 50;
+    private static final int MAX_ASPIRATION_WINDOW = 1000;
+    private static final int MATE_SCORE_LIMIT = 5000;
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int NULL_MOVE_DEEP_DEPTH = 6;
+    private static final int NULL_MOVE_REDUCTION = 2;
+    private static final int NULL_MOVE_DEEP_REDUCTION = 3;
+    private static final int LMR_MIN_DEPTH = 3;
+    private static final int LMR_MIN_MOVES = 3;
+
+    private final BoardEvaluator boardEvaluator;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrderer moveOrderer;
+    private final MoveList rootMoves = new MoveList();
+    private final MoveList[] moveLists = new MoveList[SearchBoard.MAX_PLY];
+    private final int[][] pvTable = new int[SearchBoard.MAX_PLY][SearchBoard.MAX_PLY];
+    private final int[] pvLengths = new int[SearchBoard.MAX_PLY];
+    private final StaticExchangeEvaluator staticExchangeEvaluator = new StaticExchangeEvaluator();
+    private int searchDepth;
+    private List<Move> principalVariation = Collections.emptyList();
+    private int bestValue;
+    private boolean hasAspirationWindow;
+    private int expectedValue;
+    private long visitedNodes;
+    private long deadline = Long.MAX_VALUE;
+    private AtomicBoolean stopSignal = new AtomicBoolean();
+    private boolean isAborted;
+    private boolean isQuiescence = true;
+    private boolean isNullMovePruning = true;
+    private boolean isLateMoveReductions = true;
+    private boolean isTableAging = true;
+
+    public AlphaBeta(int searchDepth) {
+        this(searchDepth, new StandardBoardEvaluator(), null);
+    }
+
+    public AlphaBeta(int searchDepth, BoardEvaluator boardEvaluator) {
+        this(searchDepth, boardEvaluator, null);
+    }
+
+    public AlphaBeta(int searchDepth, TranspositionTable transpositionTable) {
+        this(searchDepth, new StandardBoardEvaluator(), transpositionTable);
+    }
+
+    public AlphaBeta(int searchDepth, BoardEvaluator boardEvaluator, TranspositionTable transpositionTable) {
+        this(searchDepth, boardEvaluator, transpositionTable, new HeuristicMoveOrderer());
+    }
+
+    public AlphaBeta(int searchDepth,
+                     BoardEvaluator boardEvaluator,
+                     TranspositionTable transpositionTable,
+                     MoveOrderer moveOrderer) {
+        this.boardEvaluator = boardEvaluator;
+        this.transpositionTable = transpositionTable;
+        this.moveOrderer = moveOrderer;
+        this.searchDepth = searchDepth;
+        for (int ply = 0; ply < SearchBoard.MAX_PLY; ply++) {
+            this.moveLists[ply] = new MoveList();
+        }
+    }
+
+    @Override
+    public Move perform(Board board) {
+        this.visitedNodes = 0;
+        this.isAborted = false;
+        this.principalVariation = Collections.emptyList();
+        if (this.transpositionTable != null && this.isTableAging) {
+            this.transpositionTable.newSearch();
+        }
+
+        SearchBoard searchBoard = new SearchBoard(board);
+        // Root moves keep the board's legal move order, so ties are broken exactly like MinMax.perform does.
+        this.rootMoves.clear();
+        for (Move move : board.getCurrentPlayer().getLegalMoves()) {
+            this.rootMoves.add(MovePlugins.encode(move));
+        }
+        int delta = ASPIRATION_WINDOW;
+        int alpha = this.hasAspirationWindow ? this.expectedValue - delta : -INFINITY;
+        int beta = this.hasAspirationWindow ? this.expectedValue + delta : INFINITY;
+        int bestMove;
+        while (true) {
+            bestMove = searchRoot(searchBoard, alpha, beta);
+            if (this.isAborted || bestMove == MovePlugins.NO_MOVE) {
+                break;
+            }
+            // A score on or outside the window is only a bound, so the window is widened on that side
+            // and the root is searched again; past MAX_ASPIRATION_WINDOW that side is fully open.
+            delta *= 4;
+            if (this.bestValue <= alpha && alpha != -INFINITY) {
+                alpha = delta > MAX_ASPIRATION_WINDOW ? -INFINITY : this.expectedValue - delta;
+            } else if (this.bestValue >= beta && beta != INFINITY) {
+                beta = delta > MAX_ASPIRATION_WINDOW ? INFINITY : this.expectedValue + delta;
+            } else {
+                break;
+            }
+        }
+        if (bestMove == MovePlugins.NO_MOVE) {
+            return null;
+        }
+        if (!this.isAborted) {
+            this.principalVariation = MovePlugins.decodeLine(board, this.pvTable[0], this.pvLengths[0]);
+            if (this.transpositionTable != null) {
+                storeEntry(board.getZobristKey(), this.searchDepth, this.bestValue, BoundType.EXACT, bestMove);
+            }
+        }
+        return MovePlugins.decode(board, bestMove);
+    }
+
+    private int searchRoot(SearchBoard searchBoard, int alpha, int beta) {
+        int bestMove = MovePlugins.NO_MOVE;
+        this.bestValue = -INFINITY;
+        this.pvLengths[0] = 0;
+        for (int i = 0; i < this.rootMoves.size(); i++) {
+            int move = this.rootMoves.get(i);
+            if (searchBoard.makeMove(move)) {
+                // One below the best score so far, so that an equal score is still exact and the
+                // last of equally good moves wins, exactly like MinMax.perform does.
+                int rootAlpha = bestMove == MovePlugins.NO_MOVE ? alpha : Math.max(this.bestValue - 1, alpha);
+                int currentValue;
+                if (bestMove == MovePlugins.NO_MOVE) {
+                    currentValue = -negamax(searchBoard, this.searchDepth - 1, -beta, -rootAlpha, true);
+                } else {
+                    currentValue = -negamax(searchBoard, this.searchDepth - 1, -rootAlpha - 1, -rootAlpha, true);
+                    if (currentValue > rootAlpha && currentValue < beta && !this.isAborted) {
+                        currentValue = -negamax(searchBoard, this.searchDepth - 1, -beta, -rootAlpha, true);
+                    }
+                }
+                searchBoard.unmakeMove();
+                if (this.isAborted) {
+                    break;
+                }
+                if (currentValue >= this.bestValue) {
+                    this.bestValue = currentValue;
+                    bestMove = move;
+                    updatePrincipalVariation(0, move);
+                }
+                if (currentValue >= beta) {
+                    break;
+                }
+            }
+        }
+        return bestMove;
+    }
+
+    private int negamax(SearchBoard board, int depth, int alpha, int beta, boolean isNullMoveAllowed) {
+        this.pvLengths[board.getPly()] = board.getPly();
+        if (depth == 0 && this.isQuiescence) {
+            return quiescence(board, alpha, beta);
+        }
+        if (isTimeUp()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return evaluate(board, depth);
+        }
+
+        int hashMove = MovePlugins.NO_MOVE;
+        if (this.transpositionTable != null) {
+            long entry = this.transpositionTable.probe(board.getZobristKey());
+            if (entry != TranspositionTable.NOT_FOUND) {
+                hashMove = TranspositionTable.getMove(entry);
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    int score = TranspositionTable.getScore(entry);
+                    BoundType boundType = TranspositionTable.getBoundType(entry);
+                    if (boundType == BoundType.EXACT ||
+                            (boundType == BoundType.LOWER_BOUND && score >= beta) ||
+                            (boundType == BoundType.UPPER_BOUND && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        boolean isInCheck = board.isInCheck();
+        // Null move: if passing still fails high at reduced depth, a real move will too. Skipped in check,
+        // without pieces (zugzwang is common in pawn endings), at PV nodes and near mate scores.
+        if (this.isNullMovePruning && isNullMoveAllowed && depth >= NULL_MOVE_MIN_DEPTH && !isInCheck &&
+                beta - alpha == 1 && Math.abs(beta) < MATE_SCORE_LIMIT &&
+                board.hasNonPawnMaterial(board.getMoveMaker())) {
+            int reduction = depth > NULL_MOVE_DEEP_DEPTH ? NULL_MOVE_DEEP_REDUCTION : NULL_MOVE_REDUCTION;
+            board.makeNullMove();
+            int nullValue = -negamax(board, Math.max(depth - 1 - reduction, 0), -beta, -beta + 1, false);
+            board.unmakeNullMove();
+            if (this.isAborted) {
+                return 0;
+            }
+            if (nullValue >= beta) {
+                return nullValue;
+            }
+        }
+
+        MoveList moves = this.moveLists[board.getPly()];
+        board.generateMoves(moves);
+        this.moveOrderer.orderMoves(board, moves, hashMove);
+        int originalAlpha = alpha;
+        int searchedMoves = 0;
+        int bestValue = -INFINITY;
+        int bestMove = MovePlugins.NO_MOVE;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            boolean isQuiet = !MovePlugins.isCapture(move) && !MovePlugins.isPromotion(move);
+            if (!board.makeMove(move)) {
+                continue;
+            }
+            searchedMoves++;
+            int currentValue;
+            if (bestMove == MovePlugins.NO_MOVE) {
+                currentValue = -negamax(board, depth - 1, -beta, -alpha, true);
+            } else {
+                // Late quiet moves are unlikely to be best after good ordering, so they are first tried
+                // one ply shallower and only searched at full depth if that reduced search beats alpha.
+                currentValue = alpha + 1;
+                if (this.isLateMoveReductions && isQuiet && depth >= LMR_MIN_DEPTH &&
+                        searchedMoves > LMR_MIN_MOVES && !isInCheck && !board.isInCheck()) {
+                    currentValue = -negamax(board, depth - 2, -alpha - 1, -alpha, true);
+                }
+                // Principal variation search: later moves only have to prove they are no better than
+                // the best so far, which a null window does cheaply; the rare exception is re-searched.
+                if (currentValue > alpha && !this.isAborted) {
+                    currentValue = -negamax(board, depth - 1, -alpha - 1, -alpha, true);
+                }
+                if (currentValue > alpha && currentValue < beta && !this.isAborted) {
+                    currentValue = -negamax(board, depth - 1, -beta, -alpha, true);
+                }
+            }
+            board.unmakeMove();
+            if (this.isAborted) {
+                return 0;
+            }
+            if (currentValue > bestValue) {
+                bestValue = currentValue;
+                bestMove = move;
+                if (currentValue > alpha) {
+                    alpha = currentValue;
+                    updatePrincipalVariation(board.getPly(), move);
+                    if (alpha >= beta) {
+                        this.moveOrderer.recordCutoff(board, move, depth, i);
+                        break;
+                    }
+                }
+            }
+        }
+        if (bestMove == MovePlugins.NO_MOVE) {
+            int sign = board.getMoveMaker().isWhite() ? 1 : -1;
+            return sign * this.boardEvaluator.evaluateGameOver(board, depth);
+        }
+
+        if (this.transpositionTable != null) {
+            BoundType boundType = bestValue <= originalAlpha ? BoundType.UPPER_BOUND :
+                    bestValue >= beta ? BoundType.LOWER_BOUND : BoundType.EXACT;
+            storeEntry(board.getZobristKey(), depth, bestValue, boundType, bestMove);
+        }
+        return bestValue;
+    }
+
+    private void storeEntry(long key, int depth, int score, BoundType boundType, int move) {
+        // Evaluators score a mate by the depth left where it was found, not by its distance from this node,
+        // so a mate score is only right for the search that produced it. Stored at depth 0, it never cuts
+        // off a later probe, while the move still orders the next search.
+        int storedDepth = Math.abs(score) < MATE_SCORE_LIMIT ? depth : 0;
+        this.transpositionTable.store(key, storedDepth, score, boundType, move);
+    }
+
+    private int quiescence(SearchBoard board, int alpha, int beta) {
+        this.pvLengths[board.getPly()] = board.getPly();
+        if (isTimeUp()) {
+            return 0;
+        }
+        int standPat = evaluate(board, 0);
+        if (standPat >= beta || board.getPly() >= SearchBoard.MAX_PLY - 1) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        MoveList moves = this.moveLists[board.getPly()];
+        board.generateCaptures(moves);
+        this.moveOrderer.orderMoves(board, moves, MovePlugins.NO_MOVE);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (this.staticExchangeEvaluator.evaluate(board, move) < 0 || !board.makeMove(move)) {
+                continue;
+            }
+            int currentValue = -quiescence(board, -beta, -alpha);
+            board.unmakeMove();
+            if (this.isAborted) {
+                return 0;
+            }
+            if (currentValue >= beta) {
+                return currentValue;
+            }
+            if (currentValue > alpha) {
+                alpha = currentValue;
+            }
+        }
+        return alpha;
+    }
+
+    private void updatePrincipalVariation(int ply, int move) {
+        int[] line = this.pvTable[ply];
+        line[ply] = move;
+        int childLength = ply + 1 < SearchBoard.MAX_PLY ? this.pvLengths[ply + 1] : ply + 1;
+        if (childLength > ply + 1) {
+            System.arraycopy(this.pvTable[ply + 1], ply + 1, line, ply + 1, childLength - ply - 1);
+        }
+        this.pvLengths[ply] = Math.max(childLength, ply + 1);
+    }
+
+    private boolean isTimeUp() {
+        this.visitedNodes++;
+        if ((this.visitedNodes & DEADLINE_CHECK_MASK) == 0 &&
+                (System.nanoTime() - this.deadline >= 0 || this.stopSignal.get())) {
+            this.isAborted = true;
+        }
+        return this.isAborted;
+    }
+
+    private int evaluate(SearchBoard board, int depth) {
+        int sign = board.getMoveMaker().isWhite() ? 1 : -1;
+        return sign * this.boardEvaluator.evaluate(board, depth);
+    }
+
+    public void setSearchDepth(int searchDepth) {
+        this.searchDepth = searchDepth;
+    }
+
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    public void setAspirationWindow(int expectedValue) {
+        this.hasAspirationWindow = true;
+        this.expectedValue = expectedValue;
+    }
+
+    public void setStopSignal(AtomicBoolean stopSignal) {
+        this.stopSignal = stopSignal;
+    }
+
+    public void setQuiescence(boolean isQuiescence) {
+        this.isQuiescence = isQuiescence;
+    }
+
+    public void setNullMovePruning(boolean isNullMovePruning) {
+        this.isNullMovePruning = isNullMovePruning;
+    }
+
+    public void setLateMoveReductions(boolean isLateMoveReductions) {
+        this.isLateMoveReductions = isLateMoveReductions;
+    }
+
+    public void setTableAging(boolean isTableAging) {
+        this.isTableAging = isTableAging;
+    }
+
+    public boolean isAborted() {
+        return this.isAborted;
+    }
+
+    public int getBestValue() {
+        return this.bestValue;
+    }
+
+    @Override
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public MoveOrderer getMoveOrderer() {
+        return this.moveOrderer;
+    }
+
+    @Override
+    public long getNumVisitedNodes() {
+        return this.visitedNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "AlphaBeta";
+    }
+}
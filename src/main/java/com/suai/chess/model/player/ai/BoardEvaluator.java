@@ -1,7 +1,16 @@
 package com.suai.chess.model.player.ai;
 
 import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
 
 public interface BoardEvaluator {
     int evaluate(Board board, int depth);
+
+    default int evaluate(SearchBoard board, int depth) {
+        return evaluate(board.toBoard(), depth);
+    }
+
+    default int evaluateGameOver(SearchBoard board, int depth) {
+        return evaluate(board, depth);
+    }
 }
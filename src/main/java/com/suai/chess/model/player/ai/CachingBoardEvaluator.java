@@ -0,0 +1,59 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.player.Player;
+
+public class CachingBoardEvaluator implements BoardEvaluator {
+    // Evaluators may score the two board types differently, so search boards get a key space of their own.
+    private static final long SEARCH_BOARD_KEY = 0x9E3779B97F4A7C15L;
+
+    private final BoardEvaluator boardEvaluator;
+    private final EvaluationCache evaluationCache;
+
+    public CachingBoardEvaluator(BoardEvaluator boardEvaluator, EvaluationCache evaluationCache) {
+        this.boardEvaluator = boardEvaluator;
+        this.evaluationCache = evaluationCache;
+    }
+
+    @Override
+    public int evaluate(Board board, int depth) {
+        long entry = this.evaluationCache.probe(board.getZobristKey());
+        if (entry != EvaluationCache.NOT_FOUND) {
+            return EvaluationCache.getScore(entry);
+        }
+        int score = this.boardEvaluator.evaluate(board, depth);
+        // Mate scores depend on the depth they were found at, so only the other positions are cached.
+        Player player = board.getCurrentPlayer();
+        if (!player.isInCheck() || !player.isInCheckMate()) {
+            this.evaluationCache.store(board.getZobristKey(), score);
+        }
+        return score;
+    }
+
+    @Override
+    public int evaluate(SearchBoard board, int depth) {
+        // Searches take mates from evaluateGameOver and only evaluate leaves at depth 0, where a score has
+        // no depth term, so every leaf score is cached. Other depths go straight to the delegate.
+        if (depth != 0) {
+            return this.boardEvaluator.evaluate(board, depth);
+        }
+        long key = board.getZobristKey() ^ SEARCH_BOARD_KEY;
+        long entry = this.evaluationCache.probe(key);
+        if (entry != EvaluationCache.NOT_FOUND) {
+            return EvaluationCache.getScore(entry);
+        }
+        int score = this.boardEvaluator.evaluate(board, depth);
+        this.evaluationCache.store(key, score);
+        return score;
+    }
+
+    @Override
+    public int evaluateGameOver(SearchBoard board, int depth) {
+        return this.boardEvaluator.evaluateGameOver(board, depth);
+    }
+
+    public EvaluationCache getEvaluationCache() {
+        return this.evaluationCache;
+    }
+}
@@ -0,0 +1,153 @@
+package com.suai.chess.model.player.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EvaluationCache {
+    public static final long NOT_FOUND = 0L;
+
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int LONGS_PER_BUCKET = ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+    private static final long VALID_BIT = 1L << 32;
+
+    private final AtomicLongArray entries;
+    private final int bucketMask;
+    private final int sizeInMegaBytes;
+    private final EvictionPolicy evictionPolicy;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public enum EvictionPolicy {
+        // Every position maps to exactly one slot of its bucket and overwrites whatever is there.
+        ALWAYS_REPLACE,
+        // New entries go to the first slot of the bucket, pushing the previous one into the second slot.
+        OLDEST_IN_BUCKET
+    }
+
+    public EvaluationCache(int sizeInMegaBytes) {
+        this(sizeInMegaBytes, EvictionPolicy.OLDEST_IN_BUCKET);
+    }
+
+    public EvaluationCache(int sizeInMegaBytes, EvictionPolicy evictionPolicy) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Evaluation cache size must be positive: " + sizeInMegaBytes);
+        }
+        long maxBuckets = ((long) sizeInMegaBytes << 20) / BYTES_PER_BUCKET;
+        int numBuckets = Integer.highestOneBit((int) Math.min(maxBuckets, 1 << 28));
+        this.entries = new AtomicLongArray(LONGS_PER_BUCKET * numBuckets);
+        this.bucketMask = numBuckets - 1;
+        this.sizeInMegaBytes = sizeInMegaBytes;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public long probe(long key) {
+        int bucket = bucket(key);
+        for (int index = bucket; index < bucket + LONGS_PER_BUCKET; index += LONGS_PER_ENTRY) {
+            long data = this.entries.get(index + 1);
+            long check = this.entries.get(index);
+            if (data != NOT_FOUND && (check ^ data) == key) {
+                this.hits.increment();
+                return data;
+            }
+        }
+        this.misses.increment();
+        return NOT_FOUND;
+    }
+
+    public void store(long key, int score) {
+        int bucket = bucket(key);
+        long data = (score & 0xFFFFFFFFL) | VALID_BIT;
+        int index = bucket;
+        if (this.evictionPolicy == EvictionPolicy.ALWAYS_REPLACE) {
+            index += (int) (key >>> 63) * LONGS_PER_ENTRY;
+            evict(index, key);
+        } else if (!holds(bucket, key)) {
+            evict(bucket + LONGS_PER_ENTRY, key);
+            moveEntry(bucket, bucket + LONGS_PER_ENTRY);
+        }
+        // Same xor-ed key scheme as the transposition table: a torn entry fails verification in probe.
+        this.entries.set(index, key ^ data);
+        this.entries.set(index + 1, data);
+        this.stores.increment();
+    }
+
+    public static int getScore(long entry) {
+        return (int) entry;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, 0L);
+        }
+        this.hits.reset();
+        this.misses.reset();
+        this.stores.reset();
+        this.evictions.reset();
+    }
+
+    private boolean holds(int index, long key) {
+        long data = this.entries.get(index + 1);
+        return data != NOT_FOUND && (this.entries.get(index) ^ data) == key;
+    }
+
+    private void evict(int index, long key) {
+        if (this.entries.get(index + 1) != NOT_FOUND && !holds(index, key)) {
+            this.evictions.increment();
+        }
+    }
+
+    private void moveEntry(int from, int to) {
+        this.entries.set(to, this.entries.get(from));
+        this.entries.set(to + 1, this.entries.get(from + 1));
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & this.bucketMask) * LONGS_PER_BUCKET;
+    }
+
+    public int getSizeInMegaBytes() {
+        return this.sizeInMegaBytes;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    public int getCapacity() {
+        return (this.bucketMask + 1) * ENTRIES_PER_BUCKET;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long probes = hits + getMisses();
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EvaluationCache[%d MB, %d entries, %s, hits = %d, misses = %d, stores = %d, " +
+                        "evictions = %d, hit rate = %.1f%%]", this.sizeInMegaBytes, getCapacity(), this.evictionPolicy,
+                getHits(), getMisses(), getStores(), getEvictions(), 100 * getHitRate());
+    }
+}
@@ -0,0 +1,192 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.BitBoardPlugins;
+import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class HeuristicMoveOrderer implements MoveOrderer {
+    private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+    private static final int CAPTURE_SCORE = 1 << 28;
+    private static final int FIRST_KILLER_SCORE = 1 << 27;
+    private static final int SECOND_KILLER_SCORE = FIRST_KILLER_SCORE - 1;
+    private static final int LOSING_CAPTURE_SCORE = 1 << 26;
+    private static final int MAX_HISTORY = 1 << 25;
+    private static final int NUM_KILLERS = 2;
+
+    private final boolean isMvvLva;
+    private final boolean isKillers;
+    private final boolean isHistory;
+    private final boolean isStaticExchange;
+
+    private final int[][] scores = new int[SearchBoard.MAX_PLY][MovePlugins.MAX_MOVES];
+    private final int[][] killers = new int[SearchBoard.MAX_PLY][NUM_KILLERS];
+    private final int[][] history = new int[BoardPlugins.NUM_TILES][BoardPlugins.NUM_TILES];
+    private final StaticExchangeEvaluator staticExchangeEvaluator = new StaticExchangeEvaluator();
+
+    private long cutoffs;
+    private long firstMoveCutoffs;
+
+    public HeuristicMoveOrderer() {
+        this(new Builder());
+    }
+
+    private HeuristicMoveOrderer(Builder builder) {
+        this.isMvvLva = builder.isMvvLva;
+        this.isKillers = builder.isKillers;
+        this.isHistory = builder.isHistory;
+        this.isStaticExchange = builder.isStaticExchange;
+    }
+
+    @Override
+    public void orderMoves(SearchBoard board, MoveList moves, int hashMove) {
+        int[] moveScores = this.scores[board.getPly()];
+        int numMoves = moves.size();
+        for (int i = 0; i < numMoves; i++) {
+            moveScores[i] = score(board, moves.get(i), hashMove);
+        }
+        // Insertion sort: move lists are short and mostly need only a few moves lifted to the front.
+        for (int i = 1; i < numMoves; i++) {
+            int move = moves.get(i);
+            int moveScore = moveScores[i];
+            int j = i - 1;
+            while (j >= 0 && moveScores[j] < moveScore) {
+                moves.set(j + 1, moves.get(j));
+                moveScores[j + 1] = moveScores[j];
+                j--;
+            }
+            moves.set(j + 1, move);
+            moveScores[j + 1] = moveScore;
+        }
+    }
+
+    @Override
+    public void recordCutoff(SearchBoard board, int move, int depth, int moveIndex) {
+        this.cutoffs++;
+        if (moveIndex == 0) {
+            this.firstMoveCutoffs++;
+        }
+        if (MovePlugins.isCapture(move) || MovePlugins.isPromotion(move)) {
+            return;
+        }
+        if (this.isKillers) {
+            int[] plyKillers = this.killers[board.getPly()];
+            if (plyKillers[0] != move) {
+                plyKillers[1] = plyKillers[0];
+                plyKillers[0] = move;
+            }
+        }
+        if (this.isHistory) {
+            int[] fromHistory = this.history[MovePlugins.getCurrentCoordinate(move)];
+            int to = MovePlugins.getDestinationCoordinate(move);
+            fromHistory[to] += depth * depth;
+            if (fromHistory[to] >= MAX_HISTORY) {
+                ageHistory();
+            }
+        }
+    }
+
+    @Override
+    public void newSearch() {
+        for (int[] plyKillers : this.killers) {
+            plyKillers[0] = MovePlugins.NO_MOVE;
+            plyKillers[1] = MovePlugins.NO_MOVE;
+        }
+        ageHistory();
+        this.cutoffs = 0;
+        this.firstMoveCutoffs = 0;
+    }
+
+    @Override
+    public long getCutoffs() {
+        return this.cutoffs;
+    }
+
+    @Override
+    public long getFirstMoveCutoffs() {
+        return this.firstMoveCutoffs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HeuristicMoveOrderer[cutoffs = %d, first move cutoffs = %d, " +
+                        "first move cutoff rate = %.1f%%]",
+                getCutoffs(), getFirstMoveCutoffs(), 100 * getFirstMoveCutoffRate());
+    }
+
+    private int score(SearchBoard board, int move, int hashMove) {
+        // The transposition table keeps only the move key, so the hash move is matched on that.
+        if (MovePlugins.isSameMove(move, hashMove)) {
+            return HASH_MOVE_SCORE;
+        }
+        if (this.isMvvLva && (MovePlugins.isCapture(move) || MovePlugins.isPromotion(move))) {
+            if (this.isStaticExchange && this.staticExchangeEvaluator.evaluate(board, move) < 0) {
+                return LOSING_CAPTURE_SCORE + mvvLva(move);
+            }
+            return CAPTURE_SCORE + mvvLva(move);
+        }
+        if (this.isKillers) {
+            int[] plyKillers = this.killers[board.getPly()];
+            if (move == plyKillers[0]) {
+                return FIRST_KILLER_SCORE;
+            }
+            if (move == plyKillers[1]) {
+                return SECOND_KILLER_SCORE;
+            }
+        }
+        return this.isHistory ? this.history[MovePlugins.getCurrentCoordinate(move)]
+                [MovePlugins.getDestinationCoordinate(move)] : 0;
+    }
+
+    static int mvvLva(int move) {
+        int victimWeight = MovePlugins.isCapture(move) ?
+                BitBoardPlugins.pieceType(MovePlugins.getCapturedPiece(move)).getPieceWeight() : 0;
+        if (MovePlugins.isPromotion(move)) {
+            victimWeight += MovePlugins.getPromotionType(move).getPieceWeight();
+        }
+        PieceType attacker = BitBoardPlugins.pieceType(MovePlugins.getMovedPiece(move));
+        // The attacker only breaks ties between equal victims, so it is scaled below the smallest weight gap.
+        return victimWeight * 16 - attacker.ordinal();
+    }
+
+    private void ageHistory() {
+        for (int[] fromHistory : this.history) {
+            for (int i = 0; i < fromHistory.length; i++) {
+                fromHistory[i] >>= 1;
+            }
+        }
+    }
+
+    public static class Builder {
+        private boolean isMvvLva = true;
+        private boolean isKillers = true;
+        private boolean isHistory = true;
+        private boolean isStaticExchange = true;
+
+        public Builder setMvvLva(boolean isMvvLva) {
+            this.isMvvLva = isMvvLva;
+            return this;
+        }
+
+        public Builder setKillers(boolean isKillers) {
+            this.isKillers = isKillers;
+            return this;
+        }
+
+        public Builder setHistory(boolean isHistory) {
+            this.isHistory = isHistory;
+            return this;
+        }
+
+        public Builder setStaticExchange(boolean isStaticExchange) {
+            this.isStaticExchange = isStaticExchange;
+            return this;
+        }
+
+        public HeuristicMoveOrderer build() {
+            return new HeuristicMoveOrderer(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class IterativeDeepening implements MoveStrategy {
+    public static final int DEFAULT_MAX_DEPTH = 32;
+
+    private final BoardEvaluator boardEvaluator;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrderer moveOrderer;
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private long visitedNodes;
+    private int completedDepth;
+    private boolean isTableAging = true;
+    private List<Move> principalVariation = Collections.emptyList();
+
+    public IterativeDeepening(long timeBudgetMillis, TranspositionTable transpositionTable) {
+        this(timeBudgetMillis, DEFAULT_MAX_DEPTH, new StandardBoardEvaluator(), transpositionTable,
+                new HeuristicMoveOrderer());
+    }
+
+    public IterativeDeepening(long timeBudgetMillis,
+                              int maxDepth,
+                              BoardEvaluator boardEvaluator,
+                              TranspositionTable transpositionTable,
+                              MoveOrderer moveOrderer) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive: " + timeBudgetMillis);
+        }
+        this.boardEvaluator = boardEvaluator;
+        this.transpositionTable = transpositionTable;
+        this.moveOrderer = moveOrderer;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public Move perform(Board board) {
+        long start = System.nanoTime();
+        long deadline = start + this.timeBudgetNanos;
+        this.visitedNodes = 0;
+        this.completedDepth = 0;
+        this.principalVariation = Collections.emptyList();
+        this.moveOrderer.newSearch();
+        // The table is aged once per move: entries from earlier iterations of this search stay current.
+        if (this.transpositionTable != null && this.isTableAging) {
+            this.transpositionTable.newSearch();
+        }
+
+        Collection<Move> legalMoves = board.getCurrentPlayer().getLegalMoves();
+        if (legalMoves.isEmpty()) {
+            return null;
+        }
+        Move bestMove = legalMoves.iterator().next();
+        if (legalMoves.size() == 1) {
+            this.principalVariation = Collections.singletonList(bestMove);
+            return bestMove;
+        }
+        int bestValue = 0;
+        // One search for all iterations: its move lists and PV table are reused instead of reallocated per depth.
+        AlphaBeta alphaBeta = new AlphaBeta(1, this.boardEvaluator, this.transpositionTable, this.moveOrderer);
+        alphaBeta.setTableAging(false);
+        for (int depth = 1; depth <= this.maxDepth; depth++) {
+            alphaBeta.setSearchDepth(depth);
+            // Depth 1 always runs to completion so there is a searched move to fall back on.
+            if (depth > 1) {
+                alphaBeta.setDeadline(deadline);
+                alphaBeta.setAspirationWindow(bestValue);
+            }
+            Move move = alphaBeta.perform(board);
+            this.visitedNodes += alphaBeta.getNumVisitedNodes();
+            if (alphaBeta.isAborted() || move == null) {
+                break;
+            }
+            bestMove = move;
+            bestValue = alphaBeta.getBestValue();
+            this.principalVariation = alphaBeta.getPrincipalVariation();
+            this.completedDepth = depth;
+            // The next iteration costs several times the previous ones, so it is not started
+            // once half of the budget is gone.
+            if (System.nanoTime() - start >= this.timeBudgetNanos / 2) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    public void setTableAging(boolean isTableAging) {
+        this.isTableAging = isTableAging;
+    }
+
+    @Override
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    @Override
+    public long getNumVisitedNodes() {
+        return this.visitedNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "IterativeDeepening";
+    }
+}
@@ -0,0 +1,143 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LazySmp implements MoveStrategy {
+    // Helper i skips depth d when ((d + SKIP_PHASE[j]) / SKIP_SIZE[j]) is odd, j = (i - 1) % 20. Helpers
+    // skip blocks of 1 to 4 depths at different offsets, so no two of the first 20 share a schedule.
+    private static final int[] SKIP_SIZE = {1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4};
+    private static final int[] SKIP_PHASE = {0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7};
+
+    private final BoardEvaluator boardEvaluator;
+    private final TranspositionTable transpositionTable;
+    private final long timeBudgetMillis;
+    private final int maxDepth;
+    private final int numThreads;
+    private long visitedNodes;
+    private int completedDepth;
+    private List<Move> principalVariation = Collections.emptyList();
+
+    public LazySmp(long timeBudgetMillis, int numThreads, TranspositionTable transpositionTable) {
+        this(timeBudgetMillis, IterativeDeepening.DEFAULT_MAX_DEPTH, numThreads, new StandardBoardEvaluator(),
+                transpositionTable);
+    }
+
+    public LazySmp(long timeBudgetMillis,
+                   int maxDepth,
+                   int numThreads,
+                   BoardEvaluator boardEvaluator,
+                   TranspositionTable transpositionTable) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + numThreads);
+        }
+        if (transpositionTable == null) {
+            throw new IllegalArgumentException("Lazy SMP needs a shared transposition table");
+        }
+        this.boardEvaluator = boardEvaluator;
+        this.transpositionTable = transpositionTable;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+        this.numThreads = numThreads;
+    }
+
+    @Override
+    public Move perform(Board board) {
+        // Aged here, before any helper stores, and not again by the main or helper iterations.
+        this.transpositionTable.newSearch();
+        IterativeDeepening mainSearch = new IterativeDeepening(this.timeBudgetMillis, this.maxDepth,
+                this.boardEvaluator, this.transpositionTable, new HeuristicMoveOrderer());
+        mainSearch.setTableAging(false);
+        if (this.numThreads == 1) {
+            Move bestMove = mainSearch.perform(board);
+            this.visitedNodes = mainSearch.getNumVisitedNodes();
+            this.completedDepth = mainSearch.getCompletedDepth();
+            this.principalVariation = mainSearch.getPrincipalVariation();
+            return bestMove;
+        }
+
+        AtomicBoolean stopSignal = new AtomicBoolean();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeBudgetMillis);
+        ExecutorService helpers = Executors.newFixedThreadPool(this.numThreads - 1);
+        List<Future<Long>> helperNodes = new ArrayList<>();
+        for (int i = 1; i < this.numThreads; i++) {
+            int helper = i;
+            helperNodes.add(helpers.submit(() -> searchAsHelper(board, helper, deadline, stopSignal)));
+        }
+
+        Move bestMove;
+        try {
+            bestMove = mainSearch.perform(board);
+        } finally {
+            stopSignal.set(true);
+            helpers.shutdown();
+        }
+        this.visitedNodes = mainSearch.getNumVisitedNodes();
+        this.completedDepth = mainSearch.getCompletedDepth();
+        this.principalVariation = mainSearch.getPrincipalVariation();
+        for (Future<Long> nodes : helperNodes) {
+            try {
+                this.visitedNodes += nodes.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Helper search failed", e.getCause());
+            }
+        }
+        return bestMove;
+    }
+
+    static boolean isSkippedDepth(int helper, int depth) {
+        int schedule = (helper - 1) % SKIP_SIZE.length;
+        return ((depth + SKIP_PHASE[schedule]) / SKIP_SIZE[schedule]) % 2 != 0;
+    }
+
+    private long searchAsHelper(Board board, int helper, long deadline, AtomicBoolean stopSignal) {
+        AlphaBeta alphaBeta = new AlphaBeta(1, this.boardEvaluator, this.transpositionTable,
+                new HeuristicMoveOrderer());
+        alphaBeta.setDeadline(deadline);
+        alphaBeta.setStopSignal(stopSignal);
+        alphaBeta.setTableAging(false);
+        long nodes = 0;
+        for (int depth = 1; depth <= this.maxDepth && !stopSignal.get(); depth++) {
+            // Helpers on different schedules are mostly at different depths, so they fill the shared
+            // table with entries the main thread has not searched yet.
+            if (isSkippedDepth(helper, depth)) {
+                continue;
+            }
+            alphaBeta.setSearchDepth(depth);
+            alphaBeta.perform(board);
+            nodes += alphaBeta.getNumVisitedNodes();
+        }
+        return nodes;
+    }
+
+    @Override
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    @Override
+    public long getNumVisitedNodes() {
+        return this.visitedNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "LazySmp";
+    }
+}
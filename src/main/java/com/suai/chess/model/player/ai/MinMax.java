@@ -4,19 +4,27 @@ import com.suai.chess.model.board.Board;
 import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.movement.MoveTransition;
 
-public class MinMax {
+public class MinMax implements MoveStrategy {
     private final BoardEvaluator boardEvaluator;
     private final int searchDepth;
+    private long visitedNodes;
 
     public MinMax(int searchDepth) {
-        this.boardEvaluator = new StandardBoardEvaluator();
+        this(searchDepth, new StandardBoardEvaluator());
+    }
+
+    public MinMax(int searchDepth, BoardEvaluator boardEvaluator) {
+        this.boardEvaluator = boardEvaluator;
         this.searchDepth = searchDepth;
     }
+
+    @Override
     public Move perform(Board board) {
         Move bestMove = null;
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
         int currentValue;
+        this.visitedNodes = 0;
 
         System.out.println(board.getCurrentPlayer() + "THINKING with depth = " + this.searchDepth);
         for (Move move : board.getCurrentPlayer().getLegalMoves()) {
@@ -38,6 +46,7 @@ public class MinMax {
     }
 
     public int min(Board board, int depth) {
+        this.visitedNodes++;
         if (depth == 0 || isGameOver(board)) {
             return this.boardEvaluator.evaluate(board, depth);
         }
@@ -55,6 +64,7 @@ public class MinMax {
     }
 
     public int max(Board board, int depth) {
+        this.visitedNodes++;
         if (depth == 0 || isGameOver(board)) {
             return this.boardEvaluator.evaluate(board, depth);
         }
@@ -76,6 +86,11 @@ public class MinMax {
                 board.getCurrentPlayer().isInStaleMate();
     }
 
+    @Override
+    public long getNumVisitedNodes() {
+        return this.visitedNodes;
+    }
+
     @Override
     public String toString() {
         return "MiniMax";
@@ -0,0 +1,21 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.MoveList;
+
+public interface MoveOrderer {
+    void orderMoves(SearchBoard board, MoveList moves, int hashMove);
+
+    void recordCutoff(SearchBoard board, int move, int depth, int moveIndex);
+
+    void newSearch();
+
+    long getCutoffs();
+
+    long getFirstMoveCutoffs();
+
+    default double getFirstMoveCutoffRate() {
+        long cutoffs = getCutoffs();
+        return cutoffs == 0 ? 0.0 : (double) getFirstMoveCutoffs() / cutoffs;
+    }
+}
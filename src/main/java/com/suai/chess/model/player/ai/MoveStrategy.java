@@ -0,0 +1,17 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+
+import java.util.Collections;
+import java.util.List;
+
+public interface MoveStrategy {
+    Move perform(Board board);
+
+    long getNumVisitedNodes();
+
+    default List<Move> getPrincipalVariation() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.suai.chess.model.player.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PawnHashTable {
+    public static final long NOT_FOUND = 0L;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final long VALID_BIT = 1L << 32;
+
+    private final AtomicLongArray entries;
+    private final int indexMask;
+    private final int sizeInMegaBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public PawnHashTable(int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Pawn hash table size must be positive: " + sizeInMegaBytes);
+        }
+        long maxEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        int numEntries = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 29));
+        this.entries = new AtomicLongArray(2 * numEntries);
+        this.indexMask = numEntries - 1;
+        this.sizeInMegaBytes = sizeInMegaBytes;
+    }
+
+    public long probe(long pawnKey) {
+        int index = index(pawnKey);
+        long data = this.entries.get(index + 1);
+        long check = this.entries.get(index);
+        if (data != NOT_FOUND && (check ^ data) == pawnKey) {
+            this.hits.increment();
+            return data;
+        }
+        this.misses.increment();
+        return NOT_FOUND;
+    }
+
+    public void store(long pawnKey, int score) {
+        int index = index(pawnKey);
+        long data = (score & 0xFFFFFFFFL) | VALID_BIT;
+        // Same xor-ed key scheme as the transposition table: a torn entry fails verification in probe.
+        this.entries.set(index, pawnKey ^ data);
+        this.entries.set(index + 1, data);
+        this.stores.increment();
+    }
+
+    public static int getScore(long entry) {
+        return (int) entry;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, 0L);
+        }
+        this.hits.reset();
+        this.misses.reset();
+        this.stores.reset();
+    }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & this.indexMask) << 1;
+    }
+
+    public int getSizeInMegaBytes() {
+        return this.sizeInMegaBytes;
+    }
+
+    public int getCapacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long probes = hits + getMisses();
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PawnHashTable[%d MB, %d entries, hits = %d, misses = %d, stores = %d, " +
+                        "hit rate = %.1f%%]", this.sizeInMegaBytes, getCapacity(), getHits(), getMisses(), getStores(),
+                100 * getHitRate());
+    }
+}
@@ -0,0 +1,102 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.AttackTables;
+import com.suai.chess.model.board.BitBoardPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.Zobrist;
+import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class PawnStructureBoardEvaluator implements BoardEvaluator {
+    private static final int DOUBLED_PAWN_PENALTY = 15;
+    private static final int ISOLATED_PAWN_PENALTY = 15;
+    private static final int BACKWARD_PAWN_PENALTY = 10;
+    // Indexed by how many ranks the pawn has advanced from its own back rank.
+    private static final int[] PASSED_PAWN_BONUS = {0, 5, 10, 20, 35, 60, 100, 0};
+
+    private final BoardEvaluator boardEvaluator;
+    private final PawnHashTable pawnHashTable;
+
+    public PawnStructureBoardEvaluator(BoardEvaluator boardEvaluator, PawnHashTable pawnHashTable) {
+        this.boardEvaluator = boardEvaluator;
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    @Override
+    public int evaluate(Board board, int depth) {
+        long whitePawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE);
+        long blackPawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK);
+        return this.boardEvaluator.evaluate(board, depth) +
+                pawnScore(Zobrist.calculatePawnKey(whitePawns, blackPawns), whitePawns, blackPawns);
+    }
+
+    @Override
+    public int evaluate(SearchBoard board, int depth) {
+        return this.boardEvaluator.evaluate(board, depth) + pawnScore(board.getPawnKey(),
+                board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE),
+                board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK));
+    }
+
+    @Override
+    public int evaluateGameOver(SearchBoard board, int depth) {
+        return this.boardEvaluator.evaluateGameOver(board, depth);
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return this.pawnHashTable;
+    }
+
+    private int pawnScore(long pawnKey, long whitePawns, long blackPawns) {
+        long entry = this.pawnHashTable.probe(pawnKey);
+        if (entry != PawnHashTable.NOT_FOUND) {
+            return PawnHashTable.getScore(entry);
+        }
+        int score = evaluatePawnStructure(whitePawns, blackPawns);
+        this.pawnHashTable.store(pawnKey, score);
+        return score;
+    }
+
+    static int evaluatePawnStructure(long whitePawns, long blackPawns) {
+        return scorePawns(whitePawns, blackPawns, Alliance.WHITE) -
+                scorePawns(blackPawns, whitePawns, Alliance.BLACK);
+    }
+
+    private static int scorePawns(long pawns, long enemyPawns, Alliance alliance) {
+        int score = 0;
+        for (long remaining = pawns; remaining != BitBoardPlugins.EMPTY; remaining &= remaining - 1) {
+            int coordinate = BitBoardPlugins.firstCoordinate(remaining);
+            int column = coordinate & 7;
+            int row = coordinate >>> 3;
+            long file = BitBoardPlugins.FIRST_COLUMN << column;
+            long adjacentFiles = ((file << 1) & BitBoardPlugins.NOT_FIRST_COLUMN) |
+                    ((file >>> 1) & BitBoardPlugins.NOT_EIGHTH_COLUMN);
+            long ahead = rowsAhead(row, alliance);
+
+            if ((pawns & file & ahead) != BitBoardPlugins.EMPTY) {
+                score -= DOUBLED_PAWN_PENALTY;
+            }
+            if ((enemyPawns & (file | adjacentFiles) & ahead) == BitBoardPlugins.EMPTY) {
+                int advancement = alliance.isWhite() ? 7 - row : row;
+                score += PASSED_PAWN_BONUS[advancement];
+            }
+            if ((pawns & adjacentFiles) == BitBoardPlugins.EMPTY) {
+                score -= ISOLATED_PAWN_PENALTY;
+            } else if ((pawns & adjacentFiles & ~ahead) == BitBoardPlugins.EMPTY) {
+                // No neighbour level with or behind it can defend it, and an enemy pawn guards its stop square.
+                int stop = coordinate + alliance.getDirection() * 8;
+                if ((AttackTables.pawnAttacks(stop, alliance) & enemyPawns) != BitBoardPlugins.EMPTY) {
+                    score -= BACKWARD_PAWN_PENALTY;
+                }
+            }
+        }
+        return score;
+    }
+
+    private static long rowsAhead(int row, Alliance alliance) {
+        if (alliance.isWhite()) {
+            return row == 0 ? BitBoardPlugins.EMPTY : -1L >>> (64 - row * 8);
+        }
+        return row == 7 ? BitBoardPlugins.EMPTY : -1L << ((row + 1) * 8);
+    }
+}
@@ -0,0 +1,36 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.PieceSquareTables;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.player.Player;
+
+public class PieceSquareBoardEvaluator implements BoardEvaluator {
+    private static final int CHECK_MATE_SCORE = 100000;
+
+    @Override
+    public int evaluate(Board board, int depth) {
+        // Scored like evaluateGameOver, so MinMax and AlphaBeta agree on mates and stalemates.
+        Player player = board.getCurrentPlayer();
+        if (player.getLegalMoves().isEmpty()) {
+            return player.isInCheck() ? mateScore(player.getAlliance().isWhite(), depth) : 0;
+        }
+        return PieceSquareTables.evaluate(board);
+    }
+
+    @Override
+    public int evaluate(SearchBoard board, int depth) {
+        return PieceSquareTables.taper(board.getMiddleGameScore(), board.getEndGameScore(), board.getGamePhase());
+    }
+
+    @Override
+    public int evaluateGameOver(SearchBoard board, int depth) {
+        return board.isInCheck() ? mateScore(board.getMoveMaker().isWhite(), depth) : 0;
+    }
+
+    private static int mateScore(boolean isWhiteMated, int depth) {
+        // Mates found with more depth left are nearer to the root, so they score higher.
+        int score = CHECK_MATE_SCORE + depth;
+        return isWhiteMated ? -score : score;
+    }
+}
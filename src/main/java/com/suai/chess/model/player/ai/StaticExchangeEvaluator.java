@@ -0,0 +1,78 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.BitBoardPlugins;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.MovePlugins;
+import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.pieces.Piece.PieceType;
+
+public class StaticExchangeEvaluator {
+    private static final PieceType[] LEAST_VALUABLE_FIRST = {
+            PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN, PieceType.KING
+    };
+    private static final int MAX_EXCHANGES = 32;
+
+    // Reused by every call, so an evaluator must not be shared between search threads.
+    private final int[] gains = new int[MAX_EXCHANGES];
+
+    public int evaluate(SearchBoard board, int move) {
+        int flag = MovePlugins.getFlag(move);
+        if (flag == MovePlugins.KING_SIDE_CASTLE || flag == MovePlugins.QUEEN_SIDE_CASTLE) {
+            return 0;
+        }
+        int from = MovePlugins.getCurrentCoordinate(move);
+        int to = MovePlugins.getDestinationCoordinate(move);
+        long occupied = board.getOccupiedBitBoard() & ~BitBoardPlugins.bit(from);
+
+        int[] gains = this.gains;
+        int pieceOnSquare = BitBoardPlugins.pieceType(MovePlugins.getMovedPiece(move)).getPieceWeight();
+        gains[0] = MovePlugins.isCapture(move) ?
+                BitBoardPlugins.pieceType(MovePlugins.getCapturedPiece(move)).getPieceWeight() : 0;
+        if (flag == MovePlugins.EN_PASSANT) {
+            occupied &= ~BitBoardPlugins.bit(board.getEnPassantCoordinate());
+        }
+        if (MovePlugins.isPromotion(move)) {
+            pieceOnSquare = MovePlugins.getPromotionType(move).getPieceWeight();
+            gains[0] += pieceOnSquare - PieceType.PAWN.getPieceWeight();
+        }
+
+        Alliance side = board.getMoveMaker().isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        int depth = 0;
+        while (depth + 1 < MAX_EXCHANGES) {
+            // Recomputed from the shrinking occupancy, so sliders behind a piece that has just captured join in.
+            long attackers = board.calculateAttackers(to, side, occupied) & occupied;
+            int attacker = leastValuableAttacker(board, attackers, side);
+            if (attacker == -1) {
+                break;
+            }
+            depth++;
+            gains[depth] = pieceOnSquare - gains[depth - 1];
+            if (Math.max(-gains[depth - 1], gains[depth]) < 0) {
+                // Both standing pat and capturing lose for this side, so it stops and the previous result stands.
+                depth--;
+                break;
+            }
+            pieceOnSquare = BitBoardPlugins.pieceType(board.getPiece(attacker)).getPieceWeight();
+            occupied &= ~BitBoardPlugins.bit(attacker);
+            side = side.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        }
+        while (depth > 0) {
+            gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+            depth--;
+        }
+        return gains[0];
+    }
+
+    private static int leastValuableAttacker(SearchBoard board, long attackers, Alliance side) {
+        if (attackers == BitBoardPlugins.EMPTY) {
+            return -1;
+        }
+        for (PieceType pieceType : LEAST_VALUABLE_FIRST) {
+            long candidates = attackers & board.getPieceBitBoard(pieceType, side);
+            if (candidates != BitBoardPlugins.EMPTY) {
+                return BitBoardPlugins.firstCoordinate(candidates);
+            }
+        }
+        return -1;
+    }
+}
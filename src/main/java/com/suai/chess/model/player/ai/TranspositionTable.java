@@ -0,0 +1,187 @@
+package com.suai.chess.model.player.ai;
+
+import com.suai.chess.model.board.movement.MovePlugins;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+    public static final long NOT_FOUND = 0L;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int MAX_DEPTH = 0xFF;
+    private static final int MAX_AGE = 0x3F;
+    private static final BoundType[] BOUND_TYPES = BoundType.values();
+
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final int AGE_SHIFT = 58;
+
+    private final AtomicLongArray entries;
+    private final int indexMask;
+    private final int sizeInMegaBytes;
+    private volatile int age;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder overwrites = new LongAdder();
+
+    public TranspositionTable(int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Transposition table size must be positive: " + sizeInMegaBytes);
+        }
+        long maxEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        int numEntries = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 29));
+        this.entries = new AtomicLongArray(2 * numEntries);
+        this.indexMask = numEntries - 1;
+        this.sizeInMegaBytes = sizeInMegaBytes;
+    }
+
+    public enum BoundType {
+        EXACT,
+        LOWER_BOUND,
+        UPPER_BOUND
+    }
+
+    public long probe(long key) {
+        int index = index(key);
+        long data = this.entries.get(index + 1);
+        long check = this.entries.get(index);
+        if (data != NOT_FOUND && (check ^ data) == key) {
+            this.hits.increment();
+            return data;
+        }
+        if (data != NOT_FOUND) {
+            this.collisions.increment();
+        }
+        this.misses.increment();
+        return NOT_FOUND;
+    }
+
+    public void store(long key, int depth, int score, BoundType boundType, int move) {
+        int index = index(key);
+        long storedData = this.entries.get(index + 1);
+        if (storedData != NOT_FOUND) {
+            boolean isSamePosition = (this.entries.get(index) ^ storedData) == key;
+            if (!isSamePosition && getAge(storedData) == this.age && getDepth(storedData) > depth) {
+                return;
+            }
+            if (!isSamePosition) {
+                this.overwrites.increment();
+            }
+        }
+        long data = pack(depth, score, boundType, move, this.age);
+        // The key is stored xor-ed with the data, so an entry torn by two racing writers
+        // simply fails verification in probe instead of needing a lock.
+        this.entries.set(index, key ^ data);
+        this.entries.set(index + 1, data);
+        this.stores.increment();
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & MAX_AGE;
+    }
+
+    public int getAge() {
+        return this.age;
+    }
+
+    public void clear() {
+        for (int i = 0; i < this.entries.length(); i++) {
+            this.entries.set(i, 0L);
+        }
+        this.hits.reset();
+        this.misses.reset();
+        this.collisions.reset();
+        this.stores.reset();
+        this.overwrites.reset();
+    }
+
+    public static int getScore(long entry) {
+        return (int) entry;
+    }
+
+    public static int getDepth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    public static BoundType getBoundType(long entry) {
+        return BOUND_TYPES[(int) (entry >>> BOUND_SHIFT & 0x3) - 1];
+    }
+
+    public static int getMove(long entry) {
+        return (int) (entry >>> MOVE_SHIFT) & 0xFFFF;
+    }
+
+    private static int getAge(long entry) {
+        return (int) (entry >>> AGE_SHIFT) & MAX_AGE;
+    }
+
+    private static long pack(int depth, int score, BoundType boundType, int move, int age) {
+        return (score & 0xFFFFFFFFL) |
+                (long) Math.min(Math.max(depth, 0), MAX_DEPTH) << DEPTH_SHIFT |
+                (long) (boundType.ordinal() + 1) << BOUND_SHIFT |
+                (long) MovePlugins.getMoveKey(move) << MOVE_SHIFT |
+                (long) age << AGE_SHIFT;
+    }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & this.indexMask) << 1;
+    }
+
+    public int getSizeInMegaBytes() {
+        return this.sizeInMegaBytes;
+    }
+
+    public int getCapacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getCollisions() {
+        return this.collisions.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public long getOverwrites() {
+        return this.overwrites.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long probes = hits + getMisses();
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+
+    public double getFillRate() {
+        int sample = Math.min(getCapacity(), 1000);
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            if (this.entries.get(2 * i + 1) != NOT_FOUND) {
+                used++;
+            }
+        }
+        return (double) used / sample;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TranspositionTable[%d MB, %d entries, hits = %d, misses = %d, collisions = %d, " +
+                        "stores = %d, overwrites = %d, hit rate = %.1f%%, fill = %.1f%%]",
+                this.sizeInMegaBytes, getCapacity(), getHits(), getMisses(), getCollisions(),
+                getStores(), getOverwrites(), 100 * getHitRate(), 100 * getFillRate());
+    }
+}
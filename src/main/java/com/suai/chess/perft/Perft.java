@@ -0,0 +1,160 @@
+package com.suai.chess.perft;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class Perft {
+    private Perft() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long perft(Board board, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        Collection<Move> legalMoves = board.getCurrentPlayer().getLegalMoves();
+        if (depth == 1) {
+            return legalMoves.size();
+        }
+        long nodes = 0;
+        for (Move move : legalMoves) {
+            nodes += perft(move.perform(), depth - 1);
+        }
+        return nodes;
+    }
+
+    public static long perft(Board board, int depth, PerftCache cache) {
+        if (depth <= 1) {
+            return perft(board, depth);
+        }
+        long cached = cache.probe(board.getZobristKey(), depth);
+        if (cached != PerftCache.NOT_FOUND) {
+            return cached;
+        }
+        long nodes = 0;
+        for (Move move : board.getCurrentPlayer().getLegalMoves()) {
+            nodes += perft(move.perform(), depth - 1, cache);
+        }
+        cache.store(board.getZobristKey(), depth, nodes);
+        return nodes;
+    }
+
+    public static long perft(SearchBoard board, int depth) {
+        MoveList[] moveLists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            moveLists[i] = new MoveList();
+        }
+        return perft(board, depth, moveLists);
+    }
+
+    private static long perft(SearchBoard board, int depth, MoveList[] moveLists) {
+        if (depth == 0) {
+            return 1;
+        }
+        MoveList moves = moveLists[depth];
+        board.generateMoves(moves);
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            if (board.makeMove(moves.get(i))) {
+                nodes += perft(board, depth - 1, moveLists);
+                board.unmakeMove();
+            }
+        }
+        return nodes;
+    }
+
+    public static long parallelPerft(Board board, int depth, ForkJoinPool pool) {
+        return pool.invoke(new PerftTask(board, depth, null));
+    }
+
+    public static long parallelPerft(Board board, int depth, ForkJoinPool pool, PerftCache cache) {
+        return pool.invoke(new PerftTask(board, depth, cache));
+    }
+
+    public static Map<String, Long> divide(Board board, int depth) {
+        Map<String, Long> divide = new LinkedHashMap<>();
+        for (Move move : board.getCurrentPlayer().getLegalMoves()) {
+            divide.put(MovePlugins.toString(MovePlugins.encode(move)), perft(move.perform(), depth - 1));
+        }
+        return divide;
+    }
+
+    public static String report(long nodes, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long nodesPerSecond = elapsedNanos == 0 ? 0 : nodes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return "Nodes: " + nodes + "\nTime: " + elapsedMillis + " ms\nNodes/sec: " + nodesPerSecond;
+    }
+
+    public static void main(String[] args) {
+        String fen = FenPlugins.STANDARD_FEN;
+        int depth = 5;
+        boolean isDivide = false;
+        boolean isPacked = false;
+        int threads = 1;
+        int hashSizeInMegaBytes = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-fen":
+                    fen = args[++i];
+                    break;
+                case "-depth":
+                    depth = Integer.parseInt(args[++i]);
+                    break;
+                case "-divide":
+                    isDivide = true;
+                    break;
+                case "-packed":
+                    isPacked = true;
+                    break;
+                case "-threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "-hash":
+                    hashSizeInMegaBytes = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    System.out.println("Usage: Perft [-fen \"<FEN>\"] [-depth N] [-divide] [-packed] [-threads N] " +
+                            "[-hash MB]");
+                    return;
+            }
+        }
+
+        Board board = fen.equals(FenPlugins.STANDARD_FEN) ? Board.createStandardBoard() :
+                FenPlugins.createBoardFromFEN(fen);
+        PerftCache cache = hashSizeInMegaBytes > 0 ? new PerftCache(hashSizeInMegaBytes) : null;
+        long start = System.nanoTime();
+        long nodes;
+        if (isDivide) {
+            nodes = 0;
+            for (Map.Entry<String, Long> entry : divide(board, depth).entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+                nodes += entry.getValue();
+            }
+        } else if (isPacked) {
+            nodes = perft(new SearchBoard(board), depth);
+        } else if (threads > 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                nodes = parallelPerft(board, depth, pool, cache);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            nodes = cache != null ? perft(board, depth, cache) : perft(board, depth);
+        }
+        System.out.println(report(nodes, System.nanoTime() - start));
+        if (cache != null) {
+            System.out.println(cache);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.suai.chess.perft;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PerftCache {
+    public static final long NOT_FOUND = -1L;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int DEPTH_BITS = 8;
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    private static final long DEPTH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray entries;
+    private final int indexMask;
+    private final int sizeInMegaBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public PerftCache(int sizeInMegaBytes) {
+        if (sizeInMegaBytes <= 0) {
+            throw new IllegalArgumentException("Perft cache size must be positive: " + sizeInMegaBytes);
+        }
+        long maxEntries = ((long) sizeInMegaBytes << 20) / BYTES_PER_ENTRY;
+        int numEntries = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 29));
+        this.entries = new AtomicLongArray(2 * numEntries);
+        this.indexMask = numEntries - 1;
+        this.sizeInMegaBytes = sizeInMegaBytes;
+    }
+
+    public long probe(long zobristKey, int depth) {
+        long key = key(zobristKey, depth);
+        int index = index(key);
+        long data = this.entries.get(index + 1);
+        long check = this.entries.get(index);
+        if (data != 0L && (check ^ data) == key && (int) (data & MAX_DEPTH) == depth) {
+            this.hits.increment();
+            return data >>> DEPTH_BITS;
+        }
+        this.misses.increment();
+        return NOT_FOUND;
+    }
+
+    public void store(long zobristKey, int depth, long nodes) {
+        if (depth <= 0 || depth > MAX_DEPTH) {
+            return;
+        }
+        long key = key(zobristKey, depth);
+        int index = index(key);
+        long data = nodes << DEPTH_BITS | depth;
+        // Same xor-ed key scheme as the transposition table: a torn entry fails verification in probe.
+        this.entries.set(index, key ^ data);
+        this.entries.set(index + 1, data);
+        this.stores.increment();
+    }
+
+    private static long key(long zobristKey, int depth) {
+        return zobristKey ^ depth * DEPTH_MULTIPLIER;
+    }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & this.indexMask) << 1;
+    }
+
+    public int getSizeInMegaBytes() {
+        return this.sizeInMegaBytes;
+    }
+
+    public int getCapacity() {
+        return this.indexMask + 1;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long probes = hits + getMisses();
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PerftCache[%d MB, %d entries, hits = %d, misses = %d, stores = %d, hit rate = %.1f%%]",
+                this.sizeInMegaBytes, getCapacity(), getHits(), getMisses(), getStores(), 100 * getHitRate());
+    }
+}
@@ -0,0 +1,48 @@
+package com.suai.chess.perft;
+
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.movement.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+class PerftTask extends RecursiveTask<Long> {
+    static final int MIN_SPLIT_DEPTH = 3;
+
+    private final Board board;
+    private final int depth;
+    private final PerftCache cache;
+
+    PerftTask(Board board, int depth, PerftCache cache) {
+        this.board = board;
+        this.depth = depth;
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long compute() {
+        if (depth < MIN_SPLIT_DEPTH) {
+            return this.cache != null ? Perft.perft(this.board, this.depth, this.cache) :
+                    Perft.perft(this.board, this.depth);
+        }
+        if (this.cache != null) {
+            long cached = this.cache.probe(this.board.getZobristKey(), this.depth);
+            if (cached != PerftCache.NOT_FOUND) {
+                return cached;
+            }
+        }
+        List<PerftTask> subtasks = new ArrayList<>();
+        for (Move move : this.board.getCurrentPlayer().getLegalMoves()) {
+            subtasks.add(new PerftTask(move.perform(), this.depth - 1, this.cache));
+        }
+        long nodes = 0;
+        for (PerftTask subtask : invokeAll(subtasks)) {
+            nodes += subtask.join();
+        }
+        if (this.cache != null) {
+            this.cache.store(this.board.getZobristKey(), this.depth, nodes);
+        }
+        return nodes;
+    }
+}
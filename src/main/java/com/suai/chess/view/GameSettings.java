@@ -2,7 +2,21 @@ package com.suai.chess.view;
 
 import com.suai.chess.model.pieces.Alliance;
 import com.suai.chess.model.player.Player;
+import com.suai.chess.model.player.ai.AlphaBeta;
+import com.suai.chess.model.player.ai.BoardEvaluator;
+import com.suai.chess.model.player.ai.CachingBoardEvaluator;
+import com.suai.chess.model.player.ai.EvaluationCache;
+import com.suai.chess.model.player.ai.IterativeDeepening;
+import com.suai.chess.model.player.ai.LazySmp;
+import com.suai.chess.model.player.ai.MinMax;
+import com.suai.chess.model.player.ai.MoveStrategy;
+import com.suai.chess.model.player.ai.PawnHashTable;
+import com.suai.chess.model.player.ai.PawnStructureBoardEvaluator;
+import com.suai.chess.model.player.ai.PieceSquareBoardEvaluator;
+import com.suai.chess.model.player.ai.StandardBoardEvaluator;
+import com.suai.chess.model.player.ai.TranspositionTable;
 import com.suai.chess.view.Table.PlayerType;
+import com.suai.chess.view.Table.SearchType;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,9 +24,22 @@ import java.awt.*;
 class GameSettings extends JDialog {
     private PlayerType whitePlayerType;
     private PlayerType blackPlayerType;
+    private SearchType searchType;
 
     private static final String HUMAN_TEXT = "Human";
     private static final String COMPUTER_TEXT = "Computer";
+    private static final String MINIMAX_TEXT = "MiniMax";
+    private static final String ALPHA_BETA_TEXT = "AlphaBeta";
+    private static final String LAZY_SMP_TEXT = "Lazy SMP (timed)";
+    private static final int SEARCH_DEPTH = 4;
+    private static final long SEARCH_TIME_MILLIS = 2000;
+    private static final int SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int TRANSPOSITION_TABLE_SIZE_MB = 32;
+    private static final TranspositionTable TRANSPOSITION_TABLE = new TranspositionTable(TRANSPOSITION_TABLE_SIZE_MB);
+    private static final int PAWN_HASH_TABLE_SIZE_MB = 4;
+    private static final PawnHashTable PAWN_HASH_TABLE = new PawnHashTable(PAWN_HASH_TABLE_SIZE_MB);
+    private static final int EVALUATION_CACHE_SIZE_MB = 8;
+    private static final EvaluationCache EVALUATION_CACHE = new EvaluationCache(EVALUATION_CACHE_SIZE_MB);
 
     GameSettings(JFrame frame,
                  boolean modal,
@@ -24,6 +51,9 @@ class GameSettings extends JDialog {
         final JRadioButton whiteComputerButton = new JRadioButton(COMPUTER_TEXT);
         final JRadioButton blackHumanButton = new JRadioButton(HUMAN_TEXT);
         final JRadioButton blackComputerButton = new JRadioButton(COMPUTER_TEXT);
+        final JRadioButton miniMaxButton = new JRadioButton(MINIMAX_TEXT);
+        final JRadioButton alphaBetaButton = new JRadioButton(ALPHA_BETA_TEXT);
+        final JRadioButton lazySmpButton = new JRadioButton(LAZY_SMP_TEXT);
         whiteHumanButton.setActionCommand(HUMAN_TEXT);
         final ButtonGroup whiteGroup = new ButtonGroup();
         whiteGroup.add(whiteHumanButton);
@@ -33,6 +63,13 @@ class GameSettings extends JDialog {
         blackGroup.add(blackHumanButton);
         blackGroup.add(blackComputerButton);
 
+        final ButtonGroup searchGroup = new ButtonGroup();
+        searchGroup.add(miniMaxButton);
+        searchGroup.add(alphaBetaButton);
+        searchGroup.add(lazySmpButton);
+        alphaBetaButton.setSelected(true);
+        this.searchType = SearchType.ALPHA_BETA;
+
         if(isWhitePlayerComputer) {
             whiteComputerButton.setSelected(true);
         } else {
@@ -53,6 +90,10 @@ class GameSettings extends JDialog {
         myPanel.add(new JLabel("Black"));
         myPanel.add(blackHumanButton);
         myPanel.add(blackComputerButton);
+        myPanel.add(new JLabel("Search"));
+        myPanel.add(miniMaxButton);
+        myPanel.add(alphaBetaButton);
+        myPanel.add(lazySmpButton);
 
 
         final JButton cancelButton = new JButton("Cancel");
@@ -61,6 +102,13 @@ class GameSettings extends JDialog {
         okButton.addActionListener(actionEvent -> {
             whitePlayerType = whiteComputerButton.isSelected() ? PlayerType.COMPUTER : PlayerType.HUMAN;
             blackPlayerType = blackComputerButton.isSelected() ? PlayerType.COMPUTER : PlayerType.HUMAN;
+            if (miniMaxButton.isSelected()) {
+                searchType = SearchType.MINIMAX;
+            } else if (lazySmpButton.isSelected()) {
+                searchType = SearchType.LAZY_SMP;
+            } else {
+                searchType = SearchType.ALPHA_BETA;
+            }
 
             GameSettings.this.setVisible(false);
         });
@@ -95,6 +143,22 @@ class GameSettings extends JDialog {
         return getBlackPlayerType() == PlayerType.COMPUTER;
     }
 
+    public MoveStrategy createMoveStrategy() {
+        // MiniMax and AlphaBeta search the same depth with the same evaluator, so only the algorithm differs.
+        if (this.searchType == SearchType.MINIMAX) {
+            return new MinMax(SEARCH_DEPTH, createFixedDepthEvaluator());
+        }
+        if (this.searchType == SearchType.ALPHA_BETA) {
+            return new AlphaBeta(SEARCH_DEPTH, createFixedDepthEvaluator(), TRANSPOSITION_TABLE);
+        }
+        return new LazySmp(SEARCH_TIME_MILLIS, IterativeDeepening.DEFAULT_MAX_DEPTH, SEARCH_THREADS,
+                new PawnStructureBoardEvaluator(new PieceSquareBoardEvaluator(), PAWN_HASH_TABLE), TRANSPOSITION_TABLE);
+    }
+
+    private static BoardEvaluator createFixedDepthEvaluator() {
+        return new CachingBoardEvaluator(new StandardBoardEvaluator(), EVALUATION_CACHE);
+    }
+
     PlayerType getWhitePlayerType() {
         return this.whitePlayerType;
     }
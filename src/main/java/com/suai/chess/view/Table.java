@@ -7,7 +7,7 @@ import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.movement.MoveTransition;
 import com.suai.chess.model.pieces.Piece;
 import com.suai.chess.model.player.Player;
-import com.suai.chess.model.player.ai.MinMax;
+import com.suai.chess.model.player.ai.MoveStrategy;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -395,6 +395,12 @@ public class Table extends Observable {
         COMPUTER
     }
 
+    enum SearchType {
+        MINIMAX,
+        ALPHA_BETA,
+        LAZY_SMP
+    }
+
     public static class MoveLog {
         private final List<Move> moves;
 
@@ -615,8 +621,8 @@ public class Table extends Observable {
 
         @Override
         protected Move doInBackground() {
-            final MinMax miniMax = new MinMax(4);
-            return miniMax.perform(Table.get().getGameBoard());
+            final MoveStrategy strategy = Table.get().getGameSetup().createMoveStrategy();
+            return strategy.perform(Table.get().getGameBoard());
         }
 
         @Override
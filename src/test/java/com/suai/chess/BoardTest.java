@@ -1,18 +1,29 @@
 package com.suai.chess;
 
 import com.suai.chess.model.pieces.Alliance;
+import com.suai.chess.model.board.AttackTables;
+import com.suai.chess.model.board.BitBoardPlugins;
 import com.suai.chess.model.board.Board;
 import com.suai.chess.model.board.Board.Builder;
 import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.Zobrist;
 import com.suai.chess.model.board.movement.Move;
 import com.suai.chess.model.board.movement.Move.MoveFactory;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
 import com.suai.chess.model.board.movement.MoveTransition;
 import com.suai.chess.model.pieces.King;
+import com.suai.chess.model.pieces.Pawn;
 import com.suai.chess.model.pieces.Piece;
+import com.suai.chess.model.pieces.Rook;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import static com.suai.chess.model.board.movement.Move.MoveFactory.*;
 import static org.junit.Assert.*;
@@ -148,6 +159,157 @@ public class BoardTest {
 
     }
 
+    @Test
+    public void testBitBoards() {
+        final Board board = Board.createStandardBoard();
+        assertEquals(32, Long.bitCount(board.getOccupiedBitBoard()));
+        assertEquals(0xFFFFL, board.getAllianceBitBoard(Alliance.BLACK));
+        assertEquals(0xFFFFL << 48, board.getAllianceBitBoard(Alliance.WHITE));
+        assertEquals(1L << 60, board.getPieceBitBoard(Piece.PieceType.KING, Alliance.WHITE));
+        assertEquals(0xFFL << 16, board.calculateAttackBitBoard(Alliance.BLACK) & (0xFFL << 16));
+        assertTrue(board.isTileOccupied(BoardPlugins.getCoordinateAtPosition("e2")));
+        assertFalse(board.isTileOccupied(BoardPlugins.getCoordinateAtPosition("e4")));
+        assertFalse(board.isKingAttacked(Alliance.WHITE));
+        assertEquals(board.getPiece(12), board.getTile(12).getPiece());
+    }
+
+    @Test
+    public void testAttackTables() {
+        final Random random = new Random(42);
+        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
+            for (int j = 0; j < 100; j++) {
+                final long occupied = random.nextLong() & random.nextLong();
+                assertEquals(BitBoardPlugins.rookAttacks(BitBoardPlugins.bit(i), occupied),
+                        AttackTables.rookAttacks(i, occupied));
+                assertEquals(BitBoardPlugins.bishopAttacks(BitBoardPlugins.bit(i), occupied),
+                        AttackTables.bishopAttacks(i, occupied));
+            }
+        }
+        final Builder builder = new Builder();
+        builder.setPiece(new King(Alliance.BLACK, 0, false, false));
+        builder.setPiece(new King(Alliance.WHITE, 39, false, false));
+        builder.setMoveMaker(Alliance.WHITE);
+        final Board board = builder.build();
+        assertEquals(5, board.getCurrentPlayer().getLegalMoves().size());
+    }
+
+    @Test
+    public void testZobristKeyTransposition() {
+        final Board board = Board.createStandardBoard();
+        final MoveTransition t1 = board.getCurrentPlayer().makeMove(MoveFactory.createMove(board,
+                BoardPlugins.getCoordinateAtPosition("g1"), BoardPlugins.getCoordinateAtPosition("f3")));
+        final MoveTransition t2 = t1.getToBoard().getCurrentPlayer().makeMove(MoveFactory.createMove(t1.getToBoard(),
+                BoardPlugins.getCoordinateAtPosition("g8"), BoardPlugins.getCoordinateAtPosition("f6")));
+        final MoveTransition t3 = t2.getToBoard().getCurrentPlayer().makeMove(MoveFactory.createMove(t2.getToBoard(),
+                BoardPlugins.getCoordinateAtPosition("f3"), BoardPlugins.getCoordinateAtPosition("g1")));
+        final MoveTransition t4 = t3.getToBoard().getCurrentPlayer().makeMove(MoveFactory.createMove(t3.getToBoard(),
+                BoardPlugins.getCoordinateAtPosition("f6"), BoardPlugins.getCoordinateAtPosition("g8")));
+
+        assertEquals(board.getZobristKey(), t4.getToBoard().getZobristKey());
+        assertEquals(board, t4.getToBoard());
+        assertEquals(board.hashCode(), t4.getToBoard().hashCode());
+        assertNotEquals(board.getZobristKey(), t2.getToBoard().getZobristKey());
+        assertNotEquals(t1.getToBoard().getZobristKey(), t3.getToBoard().getZobristKey());
+    }
+
+    @Test
+    public void testIncrementalZobristKey() {
+        assertIncrementalKeys(createSpecialMovesBoard(), 3);
+        assertIncrementalKeys(Board.createStandardBoard(), 3);
+    }
+
+    @Test
+    public void testSearchBoardNullMove() {
+        final Board board = createSpecialMovesBoard();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final long key = searchBoard.getZobristKey();
+        final int enPassantCoordinate = searchBoard.getEnPassantCoordinate();
+
+        searchBoard.makeNullMove();
+        assertEquals(board.getMoveMaker().isWhite() ? Alliance.BLACK : Alliance.WHITE, searchBoard.getMoveMaker());
+        assertEquals(SearchBoard.NO_COORDINATE, searchBoard.getEnPassantCoordinate());
+        assertEquals(Zobrist.calculateKey(searchBoard.toBoard()), searchBoard.getZobristKey());
+        assertEquals(1, searchBoard.getPly());
+
+        searchBoard.unmakeNullMove();
+        assertEquals(board.getMoveMaker(), searchBoard.getMoveMaker());
+        assertEquals(enPassantCoordinate, searchBoard.getEnPassantCoordinate());
+        assertEquals(key, searchBoard.getZobristKey());
+        assertEquals(0, searchBoard.getPly());
+    }
+
+    @Test
+    public void testSearchBoardMakeUnmake() {
+        final Board specialMovesBoard = createSpecialMovesBoard();
+        assertSearchBoardMatches(specialMovesBoard, new SearchBoard(specialMovesBoard), 3);
+        final Board standardBoard = Board.createStandardBoard();
+        assertSearchBoardMatches(standardBoard, new SearchBoard(standardBoard), 3);
+    }
+
+    private static Board createSpecialMovesBoard() {
+        final Builder builder = new Builder();
+        builder.setPiece(new Rook(Alliance.BLACK, 0));
+        builder.setPiece(new King(Alliance.BLACK, 4, true, true));
+        builder.setPiece(new Rook(Alliance.BLACK, 7));
+        builder.setPiece(new Pawn(Alliance.BLACK, 11));
+        builder.setPiece(new Pawn(Alliance.WHITE, 14));
+        builder.setPiece(new Pawn(Alliance.WHITE, 28));
+        builder.setPiece(new Pawn(Alliance.BLACK, 50));
+        builder.setPiece(new Rook(Alliance.WHITE, 56));
+        builder.setPiece(new King(Alliance.WHITE, 60, true, true));
+        builder.setPiece(new Rook(Alliance.WHITE, 63));
+        builder.setMoveMaker(Alliance.BLACK);
+        return builder.build();
+    }
+
+    private static void assertSearchBoardMatches(final Board board, final SearchBoard searchBoard, final int depth) {
+        assertEquals(board.getZobristKey(), searchBoard.getZobristKey());
+        assertEquals(Zobrist.calculatePawnKey(board.getPieceBitBoard(Piece.PieceType.PAWN, Alliance.WHITE),
+                board.getPieceBitBoard(Piece.PieceType.PAWN, Alliance.BLACK)), searchBoard.getPawnKey());
+        assertEquals(board, searchBoard.toBoard());
+        if (depth == 0) {
+            return;
+        }
+        final Alliance moveMaker = board.getMoveMaker();
+        for (final Move move : board.getStandardMoves(moveMaker)) {
+            assertEquals(!move.perform().isKingAttacked(moveMaker),
+                    board.getCurrentPlayer().getLegalMoves().contains(move));
+        }
+        final Set<Integer> boardMoves = new HashSet<>();
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone());
+            boardMoves.add(MovePlugins.encode(move));
+            assertTrue(searchBoard.makeMove(MovePlugins.encode(move)));
+            assertSearchBoardMatches(transition.getToBoard(), searchBoard, depth - 1);
+            searchBoard.unmakeMove();
+            assertEquals(board.getZobristKey(), searchBoard.getZobristKey());
+        }
+        final Set<Integer> searchBoardMoves = new HashSet<>();
+        final MoveList moves = new MoveList();
+        searchBoard.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (searchBoard.makeMove(moves.get(i))) {
+                searchBoardMoves.add(moves.get(i));
+                searchBoard.unmakeMove();
+            }
+        }
+        assertEquals(boardMoves, searchBoardMoves);
+    }
+
+    private static void assertIncrementalKeys(final Board board, final int depth) {
+        assertEquals(Zobrist.calculateKey(board), board.getZobristKey());
+        if (depth == 0) {
+            return;
+        }
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                assertIncrementalKeys(transition.getToBoard(), depth - 1);
+            }
+        }
+    }
+
     private static int calculatedActivePieces(final Board board, final Alliance alliance) {
         int count = 0;
         for (final Piece piece : board.getAllPieces()) {
@@ -0,0 +1,100 @@
+package com.suai.chess;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.perft.Perft;
+import com.suai.chess.perft.PerftCache;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class PerftTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - -";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    @Test
+    public void testStandardPosition() {
+        assertPerft(Board.createStandardBoard(), 20, 400, 8902, 197281);
+        assertPerft(FenPlugins.createBoardFromFEN(FenPlugins.STANDARD_FEN), 20, 400, 8902);
+    }
+
+    @Test
+    public void testKiwipete() {
+        assertPerft(FenPlugins.createBoardFromFEN(KIWIPETE), 48, 2039, 97862);
+    }
+
+    @Test
+    public void testEndgamePosition() {
+        assertPerft(FenPlugins.createBoardFromFEN(POSITION_3), 14, 191, 2812, 43238);
+    }
+
+    @Test
+    public void testPromotionPositions() {
+        assertPerft(FenPlugins.createBoardFromFEN(POSITION_4), 6, 264, 9467);
+        assertPerft(FenPlugins.createBoardFromFEN(POSITION_5), 44, 1486, 62379);
+    }
+
+    @Test
+    public void testMiddleGamePosition() {
+        assertPerft(FenPlugins.createBoardFromFEN(POSITION_6), 46, 2079, 89890);
+    }
+
+    @Test
+    public void testPackedPerft() {
+        assertEquals(197281, Perft.perft(new SearchBoard(Board.createStandardBoard()), 4));
+        assertEquals(4085603, Perft.perft(new SearchBoard(FenPlugins.createBoardFromFEN(KIWIPETE)), 4));
+        assertEquals(674624, Perft.perft(new SearchBoard(FenPlugins.createBoardFromFEN(POSITION_3)), 5));
+        assertEquals(422333, Perft.perft(new SearchBoard(FenPlugins.createBoardFromFEN(POSITION_4)), 4));
+        assertEquals(2103487, Perft.perft(new SearchBoard(FenPlugins.createBoardFromFEN(POSITION_5)), 4));
+        assertEquals(3894594, Perft.perft(new SearchBoard(FenPlugins.createBoardFromFEN(POSITION_6)), 4));
+    }
+
+    @Test
+    public void testDivide() {
+        final Board board = FenPlugins.createBoardFromFEN(KIWIPETE);
+        final Map<String, Long> divide = Perft.divide(board, 2);
+        assertEquals(48, divide.size());
+        assertEquals(2039, divide.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testParallelPerft() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Board board = FenPlugins.createBoardFromFEN(KIWIPETE);
+            assertEquals(Perft.perft(board, 3), Perft.parallelPerft(board, 3, pool));
+            assertEquals(197281, Perft.parallelPerft(Board.createStandardBoard(), 4, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPerftCache() {
+        final PerftCache cache = new PerftCache(1);
+        assertEquals(97862, Perft.perft(FenPlugins.createBoardFromFEN(KIWIPETE), 3, cache));
+        assertEquals(43238, Perft.perft(FenPlugins.createBoardFromFEN(POSITION_3), 4, cache));
+        assertEquals(0, cache.getHits());
+        assertEquals(97862, Perft.perft(FenPlugins.createBoardFromFEN(KIWIPETE), 3, cache));
+        assertEquals(1, cache.getHits());
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(197281, Perft.parallelPerft(Board.createStandardBoard(), 4, pool, cache));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertPerft(Board board, long... expectedNodes) {
+        for (int depth = 1; depth <= expectedNodes.length; depth++) {
+            assertEquals("depth " + depth, expectedNodes[depth - 1], Perft.perft(board, depth));
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class PiecesTest {
         final Collection<Move> blackLegals = board.blackPlayer().getLegalMoves();
 
         assertEquals(whiteLegals.size(), 31);
-        assertEquals(blackLegals.size(), 5);
+        assertEquals(blackLegals.size(), 4);
 
         assertTrue(whiteLegals.contains(Move.MoveFactory
                 .createMove(board, BoardPlugins.getCoordinateAtPosition("e4"), BoardPlugins.getCoordinateAtPosition("e8"))));
@@ -321,7 +321,7 @@ public class PiecesTest {
         final Collection<Move> whiteLegals = board.whitePlayer().getLegalMoves();
         final Collection<Move> blackLegals = board.blackPlayer().getLegalMoves();
         assertEquals(whiteLegals.size(), 18);
-        assertEquals(blackLegals.size(), 5);
+        assertEquals(blackLegals.size(), 4);
         assertTrue(whiteLegals.contains(Move.MoveFactory
                 .createMove(board, BoardPlugins.getCoordinateAtPosition("e4"), BoardPlugins.getCoordinateAtPosition("e8"))));
         assertTrue(whiteLegals.contains(Move.MoveFactory
@@ -370,7 +370,7 @@ public class PiecesTest {
         assertTrue(t2.getMoveStatus().isDone());
         final Move m3 = Move.MoveFactory.createMove(t2.getToBoard(), BoardPlugins.getCoordinateAtPosition("e2"),
                 BoardPlugins.getCoordinateAtPosition("d2"));
-        final MoveTransition t3 = board.getCurrentPlayer().makeMove(m3);
+        final MoveTransition t3 = t2.getToBoard().getCurrentPlayer().makeMove(m3);
         assertTrue(t3.getMoveStatus().isDone());
     }
 
@@ -485,4 +485,23 @@ public class PiecesTest {
         assertEquals(16, whitePieceSet.size());
         assertEquals(16, blackPieceSet.size());
     }
+
+    @Test
+    public void testPiecePool() {
+        final Board board = Board.createStandardBoard();
+        final Board board2 = Board.createStandardBoard();
+        for (int i = 0; i < BoardPlugins.NUM_TILES; i++) {
+            assertSame(board.getPiece(i), board2.getPiece(i));
+        }
+        assertSame(PiecePool.getPiece(Piece.PieceType.PAWN, Alliance.WHITE, 52, true), board.getPiece(52));
+        assertSame(PiecePool.getKing(Alliance.WHITE, 60, true, false, true, true), board.getPiece(60));
+
+        final Move move = Move.MoveFactory.createMove(board, BoardPlugins.getCoordinateAtPosition("g1"),
+                BoardPlugins.getCoordinateAtPosition("f3"));
+        final Board toBoard = board.getCurrentPlayer().makeMove(move).getToBoard();
+        assertSame(move.getMovedPiece().movePiece(move), toBoard.getPiece(move.getDestinationCoordinate()));
+        assertSame(PiecePool.getPiece(Piece.PieceType.KNIGHT, Alliance.WHITE, move.getDestinationCoordinate(), false),
+                toBoard.getPiece(move.getDestinationCoordinate()));
+        assertSame(PiecePool.intern(new Rook(Alliance.BLACK, 0)), board.getPiece(0));
+    }
 }
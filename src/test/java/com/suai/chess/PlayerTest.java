@@ -43,6 +43,30 @@ public class PlayerTest {
         assertFalse(t4.getMoveStatus().isDone());
     }
 
+    @Test
+    public void testCastlingThroughAttackedSquares() {
+        final Builder builder = new Builder();
+        builder.setPiece(new Rook(Alliance.BLACK, 1));
+        builder.setPiece(new Rook(Alliance.BLACK, 5));
+        builder.setPiece(new King(Alliance.BLACK, 7, false, false));
+        builder.setPiece(new Rook(Alliance.WHITE, 56));
+        builder.setPiece(new King(Alliance.WHITE, 60, true, true));
+        builder.setPiece(new Rook(Alliance.WHITE, 63));
+        builder.setMoveMaker(Alliance.WHITE);
+
+        final Board board = builder.build();
+        assertTrue(board.isSquareAttacked(BoardPlugins.getCoordinateAtPosition("b1"), Alliance.BLACK));
+        assertTrue(board.isSquareAttacked(BoardPlugins.getCoordinateAtPosition("f1"), Alliance.BLACK));
+        assertFalse(board.isSquareAttacked(BoardPlugins.getCoordinateAtPosition("d1"), Alliance.BLACK));
+        final MoveTransition queenSide = board.getCurrentPlayer().makeMove(MoveFactory
+                .createMove(board, BoardPlugins.getCoordinateAtPosition("e1"), BoardPlugins.getCoordinateAtPosition("c1")));
+        assertTrue(queenSide.getMoveStatus().isDone());
+        assertTrue(queenSide.getTransitionMove().isCastlingMove());
+        final Move kingSide = MoveFactory
+                .createMove(board, BoardPlugins.getCoordinateAtPosition("e1"), BoardPlugins.getCoordinateAtPosition("g1"));
+        assertFalse(kingSide.isCastlingMove());
+    }
+
     @Test
     public void testDiscoveredCheck() {
         final Builder builder = new Builder();
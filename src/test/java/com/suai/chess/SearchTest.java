@@ -0,0 +1,496 @@
+package com.suai.chess;
+
+import com.suai.chess.io.FenPlugins;
+import com.suai.chess.model.board.Board;
+import com.suai.chess.model.board.BoardPlugins;
+import com.suai.chess.model.board.SearchBoard;
+import com.suai.chess.model.board.movement.Move;
+import com.suai.chess.model.board.movement.Move.MoveFactory;
+import com.suai.chess.model.board.movement.MoveList;
+import com.suai.chess.model.board.movement.MovePlugins;
+import com.suai.chess.model.board.movement.MoveTransition;
+import com.suai.chess.model.pieces.*;
+import com.suai.chess.model.player.ai.AlphaBeta;
+import com.suai.chess.model.player.ai.CachingBoardEvaluator;
+import com.suai.chess.model.player.ai.EvaluationCache;
+import com.suai.chess.model.player.ai.EvaluationCache.EvictionPolicy;
+import com.suai.chess.model.player.ai.HeuristicMoveOrderer;
+import com.suai.chess.model.player.ai.IterativeDeepening;
+import com.suai.chess.model.player.ai.LazySmp;
+import com.suai.chess.model.player.ai.MinMax;
+import com.suai.chess.model.player.ai.MoveOrderer;
+import com.suai.chess.model.player.ai.PawnHashTable;
+import com.suai.chess.model.player.ai.PawnStructureBoardEvaluator;
+import com.suai.chess.model.player.ai.PieceSquareBoardEvaluator;
+import com.suai.chess.model.player.ai.StandardBoardEvaluator;
+import com.suai.chess.model.player.ai.StaticExchangeEvaluator;
+import com.suai.chess.model.player.ai.TranspositionTable;
+import com.suai.chess.model.player.ai.TranspositionTable.BoundType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SearchTest {
+
+    @Test
+    public void testAlphaBetaMatchesMinMax() {
+        for (final Board board : fixedPositions()) {
+            final MinMax minMax = new MinMax(3);
+            final AlphaBeta alphaBeta = new AlphaBeta(3);
+            alphaBeta.setQuiescence(false);
+            final Move minMaxMove = minMax.perform(board);
+            final Move alphaBetaMove = alphaBeta.perform(board);
+            assertEquals(minMaxMove, alphaBetaMove);
+            assertTrue(alphaBeta.getNumVisitedNodes() < minMax.getNumVisitedNodes());
+        }
+    }
+
+    @Test
+    public void testAlphaBetaFindsMateInOne() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Alliance.BLACK, 6, false, false));
+        builder.setPiece(new Pawn(Alliance.BLACK, 13));
+        builder.setPiece(new Pawn(Alliance.BLACK, 14));
+        builder.setPiece(new Pawn(Alliance.BLACK, 15));
+        builder.setPiece(new Rook(Alliance.WHITE, 56));
+        builder.setPiece(new King(Alliance.WHITE, 62, false, false));
+        builder.setMoveMaker(Alliance.WHITE);
+        final Board board = builder.build();
+
+        final Move bestMove = new AlphaBeta(2).perform(board);
+        assertEquals(BoardPlugins.getCoordinateAtPosition("a1"), bestMove.getCurrentCoordinate());
+        assertEquals(BoardPlugins.getCoordinateAtPosition("a8"), bestMove.getDestinationCoordinate());
+        assertTrue(board.getCurrentPlayer().makeMove(bestMove).getToBoard().getCurrentPlayer().isInCheckMate());
+    }
+
+    @Test
+    public void testAlphaBetaWithTranspositionTable() {
+        final TranspositionTable transpositionTable = new TranspositionTable(4);
+        for (final Board board : fixedPositions()) {
+            final AlphaBeta hashedAlphaBeta = new AlphaBeta(3, transpositionTable);
+            final Move firstMove = hashedAlphaBeta.perform(board);
+            final long firstVisitedNodes = hashedAlphaBeta.getNumVisitedNodes();
+            final Move secondMove = hashedAlphaBeta.perform(board);
+            assertTrue(board.getCurrentPlayer().makeMove(firstMove).getMoveStatus().isDone());
+            assertTrue(board.getCurrentPlayer().makeMove(secondMove).getMoveStatus().isDone());
+            assertTrue(hashedAlphaBeta.getNumVisitedNodes() < firstVisitedNodes);
+        }
+        assertTrue(transpositionTable.getHits() > 0);
+        assertTrue(transpositionTable.getStores() > 0);
+    }
+
+    @Test
+    public void testTranspositionTable() {
+        final TranspositionTable transpositionTable = new TranspositionTable(1);
+        assertEquals(1 << 16, transpositionTable.getCapacity());
+        final long key = 0x123456789ABCDEFL;
+        assertEquals(TranspositionTable.NOT_FOUND, transpositionTable.probe(key));
+
+        transpositionTable.store(key, 5, -4321, BoundType.LOWER_BOUND, 0x1234);
+        final long entry = transpositionTable.probe(key);
+        assertEquals(5, TranspositionTable.getDepth(entry));
+        assertEquals(-4321, TranspositionTable.getScore(entry));
+        assertEquals(BoundType.LOWER_BOUND, TranspositionTable.getBoundType(entry));
+        assertEquals(0x1234, TranspositionTable.getMove(entry));
+
+        final long collidingKey = key + ((long) transpositionTable.getCapacity() << 32);
+        transpositionTable.store(collidingKey, 3, 10, BoundType.EXACT, 1);
+        assertEquals(5, TranspositionTable.getDepth(transpositionTable.probe(key)));
+        assertEquals(TranspositionTable.NOT_FOUND, transpositionTable.probe(collidingKey));
+        transpositionTable.store(collidingKey, 6, 10, BoundType.EXACT, 1);
+        assertEquals(TranspositionTable.NOT_FOUND, transpositionTable.probe(key));
+        assertEquals(6, TranspositionTable.getDepth(transpositionTable.probe(collidingKey)));
+
+        transpositionTable.newSearch();
+        transpositionTable.store(key, 1, 0, BoundType.UPPER_BOUND, 2);
+        assertEquals(1, TranspositionTable.getDepth(transpositionTable.probe(key)));
+
+        assertEquals(4, transpositionTable.getHits());
+        assertEquals(3, transpositionTable.getMisses());
+        assertEquals(2, transpositionTable.getCollisions());
+        assertEquals(2, transpositionTable.getOverwrites());
+    }
+
+    @Test
+    public void testMateScoresDoNotCutOffLaterSearches() {
+        final Board board = FenPlugins.createBoardFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        final TranspositionTable transpositionTable = new TranspositionTable(4);
+        final Move bestMove = new AlphaBeta(3, transpositionTable).perform(board);
+        assertTrue(board.getCurrentPlayer().makeMove(bestMove).getToBoard().getCurrentPlayer().isInCheckMate());
+
+        final long entry = transpositionTable.probe(board.getZobristKey());
+        assertNotEquals(TranspositionTable.NOT_FOUND, entry);
+        assertEquals(0, TranspositionTable.getDepth(entry));
+        assertTrue(MovePlugins.isSameMove(MovePlugins.encode(bestMove), TranspositionTable.getMove(entry)));
+        assertEquals(bestMove, new AlphaBeta(5, transpositionTable).perform(board));
+    }
+
+    @Test
+    public void testAlphaBetaReusedAcrossDepths() {
+        final AlphaBeta reusedAlphaBeta = new AlphaBeta(1);
+        reusedAlphaBeta.setNullMovePruning(false);
+        reusedAlphaBeta.setLateMoveReductions(false);
+        for (final Board board : fixedPositions()) {
+            for (int depth = 1; depth <= 3; depth++) {
+                final AlphaBeta alphaBeta = new AlphaBeta(depth);
+                alphaBeta.setNullMovePruning(false);
+                alphaBeta.setLateMoveReductions(false);
+                reusedAlphaBeta.setSearchDepth(depth);
+                assertEquals(alphaBeta.perform(board), reusedAlphaBeta.perform(board));
+                assertEquals(alphaBeta.getBestValue(), reusedAlphaBeta.getBestValue());
+                assertEquals(alphaBeta.getPrincipalVariation().size(),
+                        reusedAlphaBeta.getPrincipalVariation().size());
+            }
+        }
+    }
+
+    @Test
+    public void testIterativeDeepeningRespectsTimeBudget() {
+        final TranspositionTable transpositionTable = new TranspositionTable(4);
+        for (final Board board : fixedPositions()) {
+            final IterativeDeepening iterativeDeepening = new IterativeDeepening(300, transpositionTable);
+            final long start = System.nanoTime();
+            final Move bestMove = iterativeDeepening.perform(board);
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(board.getCurrentPlayer().makeMove(bestMove).getMoveStatus().isDone());
+            assertTrue(iterativeDeepening.getCompletedDepth() >= 1);
+            assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 1000);
+        }
+    }
+
+    @Test
+    public void testIterativeDeepeningMatchesFixedDepth() {
+        final Board board = fixedPositions().get(1);
+        final IterativeDeepening iterativeDeepening = new IterativeDeepening(60_000, 3,
+                new StandardBoardEvaluator(), null, new HeuristicMoveOrderer());
+        assertEquals(new AlphaBeta(3).perform(board), iterativeDeepening.perform(board));
+        assertEquals(3, iterativeDeepening.getCompletedDepth());
+    }
+
+    @Test
+    public void testPrincipalVariation() {
+        for (final Board board : fixedPositions()) {
+            final AlphaBeta alphaBeta = new AlphaBeta(4);
+            final Move bestMove = alphaBeta.perform(board);
+            final List<Move> principalVariation = alphaBeta.getPrincipalVariation();
+            assertFalse(principalVariation.isEmpty());
+            assertEquals(bestMove, principalVariation.get(0));
+            Board current = board;
+            for (final Move move : principalVariation) {
+                final MoveTransition transition = current.getCurrentPlayer().makeMove(move);
+                assertTrue(transition.getMoveStatus().isDone());
+                current = transition.getToBoard();
+            }
+        }
+    }
+
+    @Test
+    public void testPrincipalVariationStopsAtUndecodableMove() {
+        final Board board = Board.createStandardBoard();
+        final Move e2e4 = MoveFactory.createMove(board, BoardPlugins.getCoordinateAtPosition("e2"),
+                BoardPlugins.getCoordinateAtPosition("e4"));
+        final Board afterE2e4 = e2e4.perform();
+        final int stale = MovePlugins.encode(e2e4);
+        assertSame(MoveFactory.getNullMove(), MovePlugins.decode(afterE2e4, stale));
+        final int[] line = {MovePlugins.encode(e2e4), stale, MovePlugins.encode(e2e4)};
+        final List<Move> principalVariation = MovePlugins.decodeLine(board, line, line.length);
+        assertEquals(1, principalVariation.size());
+        assertEquals(e2e4, principalVariation.get(0));
+    }
+
+    @Test
+    public void testAspirationWindowKeepsResult() {
+        for (final Board board : fixedPositions()) {
+            final AlphaBeta fullWindow = new AlphaBeta(3);
+            final Move expectedMove = fullWindow.perform(board);
+            for (final int offset : new int[]{0, -400, 400}) {
+                final AlphaBeta aspiration = new AlphaBeta(3);
+                aspiration.setAspirationWindow(fullWindow.getBestValue() + offset);
+                assertEquals(expectedMove, aspiration.perform(board));
+                assertEquals(fullWindow.getBestValue(), aspiration.getBestValue());
+            }
+        }
+    }
+
+    @Test
+    public void testSelectivePruningReducesNodes() {
+        long fullWidthNodes = 0;
+        long selectiveNodes = 0;
+        for (final Board board : fixedPositions()) {
+            final AlphaBeta fullWidth = fullWidth(new AlphaBeta(5));
+            final AlphaBeta selective = new AlphaBeta(5);
+            fullWidth.perform(board);
+            final Move bestMove = selective.perform(board);
+            assertTrue(board.getCurrentPlayer().makeMove(bestMove).getMoveStatus().isDone());
+            fullWidthNodes += fullWidth.getNumVisitedNodes();
+            selectiveNodes += selective.getNumVisitedNodes();
+        }
+        assertTrue(selectiveNodes < fullWidthNodes);
+    }
+
+    private static AlphaBeta fullWidth(final AlphaBeta alphaBeta) {
+        alphaBeta.setNullMovePruning(false);
+        alphaBeta.setLateMoveReductions(false);
+        return alphaBeta;
+    }
+
+    @Test
+    public void testPieceSquareEvaluatorIsIncremental() {
+        final PieceSquareBoardEvaluator evaluator = new PieceSquareBoardEvaluator();
+        assertEquals(0, evaluator.evaluate(Board.createStandardBoard(), 0));
+        final SearchBoard board = new SearchBoard(FenPlugins.createBoardFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -"));
+        final int initialScore = evaluator.evaluate(board, 0);
+        final MoveList moves = new MoveList();
+        final MoveList replies = new MoveList();
+        board.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (!board.makeMove(moves.get(i))) {
+                continue;
+            }
+            board.generateMoves(replies);
+            for (int j = 0; j < replies.size(); j++) {
+                if (board.makeMove(replies.get(j))) {
+                    assertEquals(evaluator.evaluate(board.toBoard(), 0), evaluator.evaluate(board, 0));
+                    board.unmakeMove();
+                }
+            }
+            board.unmakeMove();
+        }
+        assertEquals(initialScore, evaluator.evaluate(board, 0));
+    }
+
+    @Test
+    public void testPieceSquareEvaluatorFindsMate() {
+        final Board board = FenPlugins.createBoardFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        final Move bestMove = new AlphaBeta(3, new PieceSquareBoardEvaluator()).perform(board);
+        assertTrue(board.getCurrentPlayer().makeMove(bestMove).getToBoard().getCurrentPlayer().isInCheckMate());
+    }
+
+    @Test
+    public void testPieceSquareEvaluatorScoresStalemate() {
+        final Board board = FenPlugins.createBoardFromFEN("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertTrue(board.getCurrentPlayer().isInStaleMate());
+        final PieceSquareBoardEvaluator evaluator = new PieceSquareBoardEvaluator();
+        assertEquals(0, evaluator.evaluate(board, 2));
+        assertEquals(evaluator.evaluate(board, 2), evaluator.evaluateGameOver(new SearchBoard(board), 2));
+    }
+
+    @Test
+    public void testPawnStructureEvaluator() {
+        final PawnHashTable pawnHashTable = new PawnHashTable(1);
+        final PawnStructureBoardEvaluator evaluator = new PawnStructureBoardEvaluator((board, depth) -> 0,
+                pawnHashTable);
+        assertEquals(0, evaluator.evaluate(Board.createStandardBoard(), 0));
+        assertEquals(-10, evaluator.evaluate(FenPlugins.createBoardFromFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1"), 0));
+        assertEquals(0, evaluator.evaluate(FenPlugins.createBoardFromFEN("4k3/4p3/8/8/8/8/4P3/4K3 w - - 0 1"), 0));
+        final Board doubled = FenPlugins.createBoardFromFEN("4k3/3ppp2/8/8/8/4P3/4P3/4K3 w - - 0 1");
+        assertEquals(-45, evaluator.evaluate(doubled, 0));
+        assertEquals(-45, evaluator.evaluate(new SearchBoard(doubled), 0));
+        assertEquals(4, pawnHashTable.getStores());
+        assertEquals(1, pawnHashTable.getHits());
+    }
+
+    @Test
+    public void testCachingEvaluatorMatchesMinMax() {
+        final EvaluationCache evaluationCache = new EvaluationCache(4);
+        for (final Board board : fixedPositions()) {
+            final MinMax minMax = new MinMax(3);
+            final MinMax cachingMinMax = new MinMax(3,
+                    new CachingBoardEvaluator(new StandardBoardEvaluator(), evaluationCache));
+            assertEquals(minMax.perform(board), cachingMinMax.perform(board));
+        }
+        assertTrue(evaluationCache.getHits() > 0);
+        assertEquals(evaluationCache.getMisses(), evaluationCache.getStores());
+    }
+
+    @Test
+    public void testEvaluationCacheEviction() {
+        final EvaluationCache oldestInBucket = new EvaluationCache(1, EvictionPolicy.OLDEST_IN_BUCKET);
+        final long bucketStride = oldestInBucket.getCapacity() / 2;
+        oldestInBucket.store(1, 10);
+        oldestInBucket.store(1 + bucketStride, 20);
+        assertEquals(10, EvaluationCache.getScore(oldestInBucket.probe(1)));
+        assertEquals(20, EvaluationCache.getScore(oldestInBucket.probe(1 + bucketStride)));
+        assertEquals(EvaluationCache.NOT_FOUND, oldestInBucket.probe(2));
+        oldestInBucket.store(1 + 2 * bucketStride, -30);
+        assertEquals(EvaluationCache.NOT_FOUND, oldestInBucket.probe(1));
+        assertEquals(-30, EvaluationCache.getScore(oldestInBucket.probe(1 + 2 * bucketStride)));
+        assertEquals(1, oldestInBucket.getEvictions());
+
+        final EvaluationCache alwaysReplace = new EvaluationCache(1, EvictionPolicy.ALWAYS_REPLACE);
+        alwaysReplace.store(1, 10);
+        alwaysReplace.store(1 + bucketStride, 20);
+        assertEquals(EvaluationCache.NOT_FOUND, alwaysReplace.probe(1));
+        assertEquals(20, EvaluationCache.getScore(alwaysReplace.probe(1 + bucketStride)));
+        assertEquals(1, alwaysReplace.getEvictions());
+    }
+
+    @Test
+    public void testCachingEvaluatorSkipsMates() {
+        final Board mated = FenPlugins.createBoardFromFEN("R5k1/5ppp/8/8/8/8/8/6K1 b - - 1 1");
+        final EvaluationCache evaluationCache = new EvaluationCache(1);
+        final CachingBoardEvaluator evaluator =
+                new CachingBoardEvaluator(new PieceSquareBoardEvaluator(), evaluationCache);
+        final int mateScore = evaluator.evaluate(mated, 2);
+        assertEquals(mateScore - 1, evaluator.evaluate(mated, 1));
+        assertEquals(0, evaluationCache.getStores());
+
+        final SearchBoard searchBoard = new SearchBoard(mated);
+        final int leafScore = evaluator.evaluate(searchBoard, 0);
+        assertEquals(leafScore, evaluator.evaluate(searchBoard, 0));
+        evaluator.evaluate(searchBoard, 3);
+        assertEquals(1, evaluationCache.getStores());
+        assertEquals(1, evaluationCache.getHits());
+
+        final Board board = FenPlugins.createBoardFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        final int score = evaluator.evaluate(board, 3);
+        assertEquals(score, evaluator.evaluate(board, 1));
+        assertEquals(score, evaluator.evaluate(new SearchBoard(board), 0));
+        assertEquals(3, evaluationCache.getStores());
+        assertEquals(2, evaluationCache.getHits());
+    }
+
+    @Test
+    public void testTableAgedOncePerMove() {
+        final TranspositionTable transpositionTable = new TranspositionTable(8);
+        final Board board = Board.createStandardBoard();
+        new IterativeDeepening(60_000, 4, new StandardBoardEvaluator(), transpositionTable,
+                new HeuristicMoveOrderer()).perform(board);
+        assertEquals(1, transpositionTable.getAge());
+        new LazySmp(60_000, 3, 3, new StandardBoardEvaluator(), transpositionTable).perform(board);
+        assertEquals(2, transpositionTable.getAge());
+        new AlphaBeta(2, transpositionTable).perform(board);
+        assertEquals(3, transpositionTable.getAge());
+    }
+
+    @Test
+    public void testLazySmp() {
+        final TranspositionTable transpositionTable = new TranspositionTable(8);
+        for (final Board board : fixedPositions()) {
+            final LazySmp lazySmp = new LazySmp(60_000, 3, 4, new StandardBoardEvaluator(), transpositionTable);
+            final Move bestMove = lazySmp.perform(board);
+            assertTrue(board.getCurrentPlayer().makeMove(bestMove).getMoveStatus().isDone());
+            assertEquals(3, lazySmp.getCompletedDepth());
+        }
+    }
+
+    @Test
+    public void testMoveOrderingReducesNodes() {
+        for (final Board board : fixedPositions()) {
+            final MoveOrderer plainOrderer = new HeuristicMoveOrderer.Builder()
+                    .setMvvLva(false)
+                    .setKillers(false)
+                    .setHistory(false)
+                    .build();
+            final AlphaBeta plain = fullWidth(new AlphaBeta(4, new StandardBoardEvaluator(), null, plainOrderer));
+            final AlphaBeta ordered = fullWidth(new AlphaBeta(4));
+            assertEquals(plain.perform(board), ordered.perform(board));
+            assertTrue(ordered.getNumVisitedNodes() <= plain.getNumVisitedNodes());
+            assertTrue(ordered.getMoveOrderer().getFirstMoveCutoffRate() >=
+                    plainOrderer.getFirstMoveCutoffRate());
+        }
+    }
+
+    @Test
+    public void testQuiescenceAvoidsDefendedPawn() {
+        final Board board = FenPlugins.createBoardFromFEN("6k1/4p3/3p4/8/3Q4/8/8/6K1 w - - 0 1");
+        final int d6 = BoardPlugins.getCoordinateAtPosition("d6");
+
+        final AlphaBeta horizon = new AlphaBeta(1);
+        horizon.setQuiescence(false);
+        assertEquals(d6, horizon.perform(board).getDestinationCoordinate());
+        assertNotEquals(d6, new AlphaBeta(1).perform(board).getDestinationCoordinate());
+    }
+
+    @Test
+    public void testGenerateCaptures() {
+        final SearchBoard board = new SearchBoard(FenPlugins.createBoardFromFEN(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -"));
+        final MoveList moves = new MoveList();
+        final MoveList captures = new MoveList();
+        board.generateMoves(moves);
+        board.generateCaptures(captures);
+        assertEquals(8, captures.size());
+        for (int i = 0; i < captures.size(); i++) {
+            final int capture = captures.get(i);
+            assertTrue(moves.contains(capture));
+            assertTrue(MovePlugins.isCapture(capture));
+            assertEquals(board.getPiece(MovePlugins.getDestinationCoordinate(capture)),
+                    MovePlugins.getCapturedPiece(capture));
+            assertEquals(board.getPiece(MovePlugins.getCurrentCoordinate(capture)), MovePlugins.getMovedPiece(capture));
+        }
+    }
+
+    @Test
+    public void testStaticExchangeEvaluation() {
+        assertEquals(100, staticExchange("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - -", "e1", "e5"));
+        assertEquals(-200, staticExchange("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - -", "d3", "e5"));
+        assertEquals(-800, staticExchange("6k1/4p3/3p4/8/3Q4/8/8/6K1 w - - 0 1", "d4", "d6"));
+        assertEquals(100, staticExchange("6k1/8/8/3p4/4P3/8/8/6K1 w - - 0 1", "e4", "d5"));
+        assertEquals(500, staticExchange("3r2k1/8/8/8/8/8/8/3R2K1 w - - 0 1", "d1", "d8"));
+        assertEquals(0, staticExchange("3r2k1/3r4/8/8/8/8/8/3R2K1 w - - 0 1", "d1", "d7"));
+    }
+
+    private static int staticExchange(final String fen, final String from, final String to) {
+        final SearchBoard board = new SearchBoard(FenPlugins.createBoardFromFEN(fen));
+        final MoveList moves = new MoveList();
+        board.generateMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            if (MovePlugins.getCurrentCoordinate(move) == BoardPlugins.getCoordinateAtPosition(from) &&
+                    MovePlugins.getDestinationCoordinate(move) == BoardPlugins.getCoordinateAtPosition(to)) {
+                return new StaticExchangeEvaluator().evaluate(board, move);
+            }
+        }
+        throw new AssertionError("No move " + from + to);
+    }
+
+    static List<Board> fixedPositions() {
+        final List<Board> boards = new ArrayList<>();
+        final Board standardBoard = Board.createStandardBoard();
+        boards.add(standardBoard);
+
+        final Board openingBoard = play(standardBoard, "e2", "e4", "e7", "e5", "g1", "f3", "b8", "c6");
+        boards.add(openingBoard);
+        boards.add(play(openingBoard, "f1", "c4", "d7", "d6", "d2", "d4"));
+
+        final Board.Builder hangingQueen = new Board.Builder();
+        hangingQueen.setPiece(new King(Alliance.BLACK, 4, false, false));
+        hangingQueen.setPiece(new Queen(Alliance.BLACK, 27));
+        hangingQueen.setPiece(new Rook(Alliance.BLACK, 0, false));
+        hangingQueen.setPiece(new Pawn(Alliance.BLACK, 12));
+        hangingQueen.setPiece(new Knight(Alliance.WHITE, 42));
+        hangingQueen.setPiece(new Bishop(Alliance.WHITE, 45));
+        hangingQueen.setPiece(new Pawn(Alliance.WHITE, 53));
+        hangingQueen.setPiece(new King(Alliance.WHITE, 60, false, false));
+        hangingQueen.setMoveMaker(Alliance.WHITE);
+        boards.add(hangingQueen.build());
+
+        final Board.Builder rookEnding = new Board.Builder();
+        rookEnding.setPiece(new King(Alliance.BLACK, 20, false, false));
+        rookEnding.setPiece(new Pawn(Alliance.BLACK, 26));
+        rookEnding.setPiece(new Rook(Alliance.BLACK, 47, false));
+        rookEnding.setPiece(new Pawn(Alliance.WHITE, 35));
+        rookEnding.setPiece(new Rook(Alliance.WHITE, 8, false));
+        rookEnding.setPiece(new King(Alliance.WHITE, 54, false, false));
+        rookEnding.setMoveMaker(Alliance.BLACK);
+        boards.add(rookEnding.build());
+        return boards;
+    }
+
+    private static Board play(final Board board, final String... squares) {
+        Board currentBoard = board;
+        for (int i = 0; i < squares.length; i += 2) {
+            final MoveTransition transition = currentBoard.getCurrentPlayer().makeMove(MoveFactory
+                    .createMove(currentBoard, BoardPlugins.getCoordinateAtPosition(squares[i]),
+                            BoardPlugins.getCoordinateAtPosition(squares[i + 1])));
+            assertTrue(transition.getMoveStatus().isDone());
+            currentBoard = transition.getToBoard();
+        }
+        return currentBoard;
+    }
+}